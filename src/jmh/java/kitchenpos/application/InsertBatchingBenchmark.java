@@ -0,0 +1,114 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+import kitchenpos.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class InsertBatchingBenchmark {
+    private static final int PRODUCTS_PER_MENU = 20;
+    private static final int ORDERS_PER_REQUEST = 50;
+    private static final int LINES_PER_ORDER = 5;
+
+    @Param({"identity", "pooled"})
+    private String seqGeneration;
+
+    @Param({"0", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private MenuService menuService;
+    private OrderService orderService;
+    private MenuGroup menuGroup;
+    private List<Product> products;
+    private List<Menu> menus;
+
+    @Setup
+    public void setUp() {
+        if ("identity".equals(seqGeneration)) {
+            context = BenchmarkApplication.run(
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "spring.jpa.mapping-resources=META-INF/identity-seq-orm.xml"
+            );
+            final JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.execute("alter table menu_product modify seq bigint not null auto_increment");
+            jdbcTemplate.execute("alter table order_line_item modify seq bigint not null auto_increment");
+        } else {
+            context = BenchmarkApplication.run("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        }
+        menuService = context.getBean(MenuService.class);
+        orderService = context.getBean(OrderService.class);
+
+        final MenuGroup menuGroupRequest = new MenuGroup();
+        menuGroupRequest.setName("벤치마크");
+        menuGroup = context.getBean(MenuGroupService.class).create(menuGroupRequest);
+        products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS_PER_MENU; i++) {
+            final Product productRequest = new Product();
+            productRequest.setName("상품 " + i);
+            productRequest.setPrice(BigDecimal.valueOf(1_000L));
+            products.add(context.getBean(ProductService.class).create(productRequest));
+        }
+        menus = new ArrayList<>();
+        for (int i = 0; i < LINES_PER_ORDER; i++) {
+            menus.add(menuService.create(menuRequest()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Menu createMenu() {
+        return menuService.create(menuRequest());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDERS_PER_REQUEST)
+    public List<OrderCreationResult> createOrders() {
+        final List<Order> requests = new ArrayList<>();
+        for (int i = 0; i < ORDERS_PER_REQUEST; i++) {
+            final List<OrderLineItem> orderLineItems = new ArrayList<>();
+            for (final Menu menu : menus) {
+                final OrderLineItem orderLineItem = new OrderLineItem();
+                orderLineItem.setMenuId(menu.getId());
+                orderLineItem.setPrice(menu.getPrice());
+                orderLineItem.setQuantity(1L);
+                orderLineItems.add(orderLineItem);
+            }
+            final Order request = new Order();
+            request.setType(OrderType.TAKEOUT);
+            request.setOrderLineItems(orderLineItems);
+            requests.add(request);
+        }
+        return orderService.createAll(requests);
+    }
+
+    private Menu menuRequest() {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (final Product product : products) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(product.getId());
+            menuProduct.setQuantity(1L);
+            menuProducts.add(menuProduct);
+        }
+        final Menu request = new Menu();
+        request.setName("모둠 세트");
+        request.setPrice(BigDecimal.valueOf(19_000L));
+        request.setMenuGroupId(menuGroup.getId());
+        request.setDisplayed(true);
+        request.setMenuProducts(menuProducts);
+        return request;
+    }
+}
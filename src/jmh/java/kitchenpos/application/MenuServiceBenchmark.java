@@ -0,0 +1,66 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductRepository;
+import kitchenpos.infra.Dataset;
+import kitchenpos.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MenuServiceBenchmark {
+    @Param({"1", "5"})
+    private int productsPerMenu;
+
+    private ConfigurableApplicationContext context;
+    private MenuService menuService;
+    private UUID menuGroupId;
+    private List<Product> products;
+    private BigDecimal price;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.run();
+        menuService = context.getBean(MenuService.class);
+        final Dataset dataset = BenchmarkApplication.generateDataset(context);
+        menuGroupId = dataset.getMenuGroupIds().get(0);
+        products = context.getBean(ProductRepository.class)
+            .findAllByIdIn(dataset.getProductIds().subList(0, productsPerMenu));
+        price = products.stream()
+            .map(Product::getPrice)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Menu create() {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (final Product product : products) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(product.getId());
+            menuProduct.setQuantity(1L);
+            menuProducts.add(menuProduct);
+        }
+        final Menu request = new Menu();
+        request.setName("후라이드+양념");
+        request.setPrice(price);
+        request.setMenuGroupId(menuGroupId);
+        request.setDisplayed(true);
+        request.setMenuProducts(menuProducts);
+        return menuService.create(request);
+    }
+}
@@ -0,0 +1,117 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+import kitchenpos.infra.Dataset;
+import kitchenpos.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.IdGenerator;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+    private static final int LINES_PER_ORDER = 3;
+    private static final long RESERVED_ORDER_LINE_ITEMS = 10_000_000L;
+
+    @Param({"DELIVERY", "EAT_IN"})
+    private OrderType type;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private JdbcTemplate jdbcTemplate;
+    private IdGenerator idGenerator;
+    private List<Menu> menus;
+    private UUID orderTableId;
+    private long orderLineItemSeq;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.run();
+        orderService = context.getBean(OrderService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        idGenerator = context.getBean(IdGenerator.class);
+        final Dataset dataset = BenchmarkApplication.generateDataset(context);
+        menus = context.getBean(MenuRepository.class).findAllByIdIn(dataset.getMenuIds().subList(0, LINES_PER_ORDER));
+        orderTableId = dataset.getOrderTableIds().get(0);
+        context.getBean(OrderTableService.class).sit(orderTableId);
+        orderLineItemSeq = BenchmarkApplication.reserveSequence(
+            jdbcTemplate, "order_line_item", RESERVED_ORDER_LINE_ITEMS
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order create() {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Menu menu : menus) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menu.getId());
+            orderLineItem.setPrice(menu.getPrice());
+            orderLineItem.setQuantity(1L);
+            orderLineItems.add(orderLineItem);
+        }
+        final Order request = new Order();
+        request.setType(type);
+        request.setOrderLineItems(orderLineItems);
+        request.setDeliveryAddress("서울시 송파구 올림픽로 300");
+        request.setOrderTableId(orderTableId);
+        return orderService.create(request);
+    }
+
+    @Benchmark
+    public Order accept(final WaitingOrder waitingOrder) {
+        return orderService.accept(waitingOrder.orderId);
+    }
+
+    @State(Scope.Thread)
+    public static class WaitingOrder {
+        private UUID orderId;
+
+        @Setup(Level.Invocation)
+        public void setUp(final OrderServiceBenchmark benchmark) {
+            orderId = benchmark.idGenerator.generateId();
+            benchmark.jdbcTemplate.update(
+                "insert into orders (id, delivery_address, order_date_time, status, type, order_table_id, total_price)"
+                    + " values (?, ?, ?, ?, ?, ?, ?)",
+                bytes(orderId),
+                benchmark.type == OrderType.DELIVERY ? "서울시 송파구 올림픽로 300" : null,
+                new Timestamp(System.currentTimeMillis()),
+                OrderStatus.WAITING.name(),
+                benchmark.type.name(),
+                benchmark.type == OrderType.EAT_IN ? bytes(benchmark.orderTableId) : null,
+                benchmark.menus.stream().map(Menu::getPrice).reduce(BigDecimal.ZERO, BigDecimal::add)
+            );
+            for (final Menu menu : benchmark.menus) {
+                benchmark.jdbcTemplate.update(
+                    "insert into order_line_item (seq, quantity, price, menu_id, order_id) values (?, ?, ?, ?, ?)",
+                    benchmark.orderLineItemSeq++,
+                    1L,
+                    menu.getPrice(),
+                    bytes(menu.getId()),
+                    bytes(orderId)
+                );
+            }
+        }
+    }
+
+    private static byte[] bytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
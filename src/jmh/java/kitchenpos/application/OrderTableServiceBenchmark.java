@@ -0,0 +1,69 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.infra.Dataset;
+import kitchenpos.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OrderTableServiceBenchmark {
+    private ConfigurableApplicationContext context;
+    private OrderTableService orderTableService;
+    private JdbcTemplate jdbcTemplate;
+    private List<UUID> orderTableIds;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.run();
+        orderTableService = context.getBean(OrderTableService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        final Dataset dataset = BenchmarkApplication.generateDataset(context);
+        orderTableIds = context.getBean(OrderTableRepository.class).findAllById(dataset.getOrderTableIds()).stream()
+            .filter(orderTable -> orderTable.getActiveOrderCount() == 0)
+            .map(OrderTable::getId)
+            .collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderTable clear(final SeatedOrderTable seatedOrderTable) {
+        return orderTableService.clear(seatedOrderTable.orderTableId);
+    }
+
+    @State(Scope.Thread)
+    public static class SeatedOrderTable {
+        private int sequence;
+        private UUID orderTableId;
+
+        @Setup(Level.Invocation)
+        public void setUp(final OrderTableServiceBenchmark benchmark) {
+            orderTableId = benchmark.orderTableIds.get(sequence++ % benchmark.orderTableIds.size());
+            benchmark.jdbcTemplate.update(
+                "update order_table set empty = false, number_of_guests = 4 where id = ?",
+                (Object) bytes(orderTableId)
+            );
+        }
+    }
+
+    private static byte[] bytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,89 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Product;
+import kitchenpos.support.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ProductServiceChangePriceBenchmark {
+    private static final int AFFECTED_MENU_COUNT = 10;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"1000", "100000"})
+    private int menuCount;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private UUID productId;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.run();
+        productService = context.getBean(ProductService.class);
+        productId = insertMenus(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Product changePrice() {
+        final Product request = new Product();
+        request.setPrice(BigDecimal.valueOf(15_000L + sequence++ % 2_000L));
+        return productService.changePrice(productId, request);
+    }
+
+    private UUID insertMenus(final JdbcTemplate jdbcTemplate) {
+        final UUID menuGroupId = UUID.randomUUID();
+        final UUID otherProductId = UUID.randomUUID();
+        final UUID changedProductId = UUID.randomUUID();
+        jdbcTemplate.update("insert into menu_group (id, name) values (?, ?)", bytes(menuGroupId), "벤치마크");
+        jdbcTemplate.update("insert into product (id, name, price) values (?, ?, ?)", bytes(otherProductId), "콜라", 2_000L);
+        jdbcTemplate.update("insert into product (id, name, price) values (?, ?, ?)", bytes(changedProductId), "후라이드", 16_000L);
+        long seq = BenchmarkApplication.reserveSequence(jdbcTemplate, "menu_product", menuCount + AFFECTED_MENU_COUNT);
+        final List<Object[]> menus = new ArrayList<>();
+        final List<Object[]> menuProducts = new ArrayList<>();
+        for (int i = 0; i < menuCount; i++) {
+            final UUID menuId = UUID.randomUUID();
+            menus.add(new Object[]{bytes(menuId), "메뉴 " + i, 2_000L, true, bytes(menuGroupId)});
+            menuProducts.add(new Object[]{seq++, 1L, bytes(otherProductId), bytes(menuId)});
+            if (i < AFFECTED_MENU_COUNT) {
+                menuProducts.add(new Object[]{seq++, 1L, bytes(changedProductId), bytes(menuId)});
+            }
+            if (menus.size() == BATCH_SIZE || i == menuCount - 1) {
+                jdbcTemplate.batchUpdate(
+                    "insert into menu (id, name, price, displayed, menu_group_id) values (?, ?, ?, ?, ?)",
+                    menus
+                );
+                jdbcTemplate.batchUpdate(
+                    "insert into menu_product (seq, quantity, product_id, menu_id) values (?, ?, ?, ?)",
+                    menuProducts
+                );
+                menus.clear();
+                menuProducts.clear();
+            }
+        }
+        return changedProductId;
+    }
+
+    private static byte[] bytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
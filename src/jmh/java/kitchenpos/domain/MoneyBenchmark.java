@@ -0,0 +1,66 @@
+package kitchenpos.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+    private static final long SEED = 20210801L;
+
+    @Param({"3", "20"})
+    private int lines;
+
+    private List<Line> items;
+
+    @Setup
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        items = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            final BigDecimal price = BigDecimal.valueOf(random.nextLong(100_000L, 3_000_000L), 2);
+            items.add(new Line(price, 1L + random.nextInt(5)));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSum() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (final Line line : items) {
+            sum = sum.add(line.bigDecimalPrice.multiply(BigDecimal.valueOf(line.quantity)));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Money moneySum() {
+        return Money.sum(items, line -> line.price, line -> line.quantity);
+    }
+
+    @Benchmark
+    public Money moneyPlusTimes() {
+        Money sum = Money.ZERO;
+        for (final Line line : items) {
+            sum = sum.plus(line.price.times(line.quantity));
+        }
+        return sum;
+    }
+
+    private static class Line {
+        private final BigDecimal bigDecimalPrice;
+        private final Money price;
+        private final long quantity;
+
+        Line(final BigDecimal price, final long quantity) {
+            this.bigDecimalPrice = price;
+            this.price = Money.of(price);
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package kitchenpos.infra;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.IdGenerator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+    private static final int BATCH_SIZE = 1_000;
+    private static final String INSERT_ORDER =
+        "insert into orders (id, order_date_time, status, type, total_price) values (?, ?, 'COMPLETED', 'TAKEOUT', 0)";
+
+    @Param({"random", "time-ordered"})
+    private String generator;
+
+    @Param({"1000000"})
+    private int rows;
+
+    private Path directory;
+    private Connection connection;
+    private IdGenerator idGenerator;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        idGenerator = "random".equals(generator) ? new RandomIdGenerator() : new TimeOrderedIdGenerator();
+        directory = Files.createTempDirectory("kitchenpos-id-benchmark");
+        final String url = "jdbc:h2:file:" + directory.resolve("orders") + ";MODE=MySQL";
+        Flyway.configure()
+            .dataSource(url, "sa", "")
+            .load()
+            .migrate();
+        connection = DriverManager.getConnection(url, "sa", "");
+        connection.setAutoCommit(false);
+        for (int loaded = 0; loaded < rows; loaded += BATCH_SIZE) {
+            insertOrders();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("call disk_space_used('ORDERS')")) {
+            resultSet.next();
+            System.out.printf("%n%s: orders table and indexes use %,d bytes%n", generator, resultSet.getLong(1));
+        }
+        connection.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertOrders() throws SQLException {
+        final Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_ORDER)) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                statement.setBytes(1, bytes(idGenerator.generateId()));
+                statement.setTimestamp(2, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static byte[] bytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
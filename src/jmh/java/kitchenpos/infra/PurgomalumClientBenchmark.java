@@ -0,0 +1,72 @@
+package kitchenpos.infra;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PurgomalumClientBenchmark {
+    @Param({"후라이드치킨", "Double fried chicken with extra spicy sauce and a damn good side"})
+    private String text;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private LocalPurgomalumClient localClient;
+    private RemotePurgomalumClient remoteClient;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/service/containsprofanity", exchange -> {
+            final byte[] body = "false".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        executor = Executors.newFixedThreadPool(4);
+        localClient = new LocalPurgomalumClient(new SimpleMeterRegistry(), new ClassPathResource("profanity/words.txt"));
+        remoteClient = new RemotePurgomalumClient(
+            new RestTemplateBuilder(),
+            executor,
+            new SimpleMeterRegistry(),
+            "http://localhost:" + server.getAddress().getPort(),
+            Duration.ofSeconds(1L),
+            Duration.ofSeconds(2L),
+            0L,
+            Duration.ofMinutes(1L)
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean local() {
+        return localClient.containsProfanity(text);
+    }
+
+    @Benchmark
+    public boolean remoteAgainstLocalStub() {
+        return remoteClient.containsProfanity(text + ' ' + sequence++);
+    }
+}
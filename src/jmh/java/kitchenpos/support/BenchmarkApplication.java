@@ -0,0 +1,65 @@
+package kitchenpos.support;
+
+import kitchenpos.Application;
+import kitchenpos.infra.Dataset;
+import kitchenpos.infra.DatasetGenerator;
+import kitchenpos.infra.DatasetSize;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public final class BenchmarkApplication {
+    private static final String DATASOURCE_URL_PROPERTY = "kitchenpos.benchmark.datasource-url";
+    private static final long DATASET_SEED = 20210801L;
+    private static final long SEQUENCE_GAP = 100L;
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext run(final String... properties) {
+        final List<String> args = new ArrayList<>(Arrays.asList(
+            "--spring.main.web-application-type=none",
+            "--spring.datasource.url=" + System.getProperty(
+                DATASOURCE_URL_PROPERTY,
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"
+            ),
+            "--spring.jpa.show-sql=false",
+            "--kitchenpos.profanity.engine=stub",
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF"
+        ));
+        for (final String property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(Application.class)
+            .initializers((GenericApplicationContext context) -> {
+                context.registerBean(StubPurgomalumClient.class);
+                context.registerBean(StubKitchenridersClient.class, definition -> definition.setPrimary(true));
+            })
+            .run(args.toArray(new String[0]));
+    }
+
+    public static Dataset generateDataset(final ConfigurableApplicationContext context) {
+        return new DatasetGenerator(context.getBean(JdbcTemplate.class)).generate(new DatasetSize(), DATASET_SEED);
+    }
+
+    public static long reserveSequence(final JdbcTemplate jdbcTemplate, final String sequenceName, final long count) {
+        final long first = jdbcTemplate.queryForObject(
+            "select next_val from id_generator where sequence_name = ?",
+            Long.class,
+            sequenceName
+        ) + SEQUENCE_GAP;
+        jdbcTemplate.update(
+            "update id_generator set next_val = ? where sequence_name = ?",
+            first + count + SEQUENCE_GAP,
+            sequenceName
+        );
+        return first;
+    }
+}
@@ -0,0 +1,17 @@
+package kitchenpos.support;
+
+import kitchenpos.infra.KitchenridersClient;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class StubKitchenridersClient extends KitchenridersClient {
+    @Override
+    public void requestDelivery(
+        final UUID idempotencyKey,
+        final UUID orderId,
+        final BigDecimal amount,
+        final String deliveryAddress
+    ) {
+    }
+}
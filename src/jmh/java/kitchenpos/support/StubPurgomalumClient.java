@@ -0,0 +1,17 @@
+package kitchenpos.support;
+
+import kitchenpos.infra.PurgomalumClient;
+
+import java.util.concurrent.CompletableFuture;
+
+public class StubPurgomalumClient implements PurgomalumClient {
+    @Override
+    public boolean containsProfanity(final String text) {
+        return false;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsProfanityAsync(final String text) {
+        return CompletableFuture.completedFuture(false);
+    }
+}
@@ -0,0 +1,29 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderTableRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class ActiveOrderCountReconciler {
+    private static final Logger log = LoggerFactory.getLogger(ActiveOrderCountReconciler.class);
+
+    private final OrderTableRepository orderTableRepository;
+
+    public ActiveOrderCountReconciler(final OrderTableRepository orderTableRepository) {
+        this.orderTableRepository = orderTableRepository;
+    }
+
+    @Scheduled(cron = "${kitchenpos.order-table.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public int reconcile() {
+        final int reconciled = orderTableRepository.reconcileActiveOrderCounts();
+        if (reconciled > 0) {
+            log.warn("reconciled active order count of {} order tables", reconciled);
+        }
+        return reconciled;
+    }
+}
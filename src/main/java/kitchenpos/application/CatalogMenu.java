@@ -0,0 +1,34 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public final class CatalogMenu {
+    private final UUID id;
+    private final BigDecimal price;
+    private final boolean displayed;
+
+    public CatalogMenu(final UUID id, final BigDecimal price, final boolean displayed) {
+        this.id = id;
+        this.price = price;
+        this.displayed = displayed;
+    }
+
+    public static CatalogMenu from(final Menu menu) {
+        return new CatalogMenu(menu.getId(), menu.getPrice(), menu.isDisplayed());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+}
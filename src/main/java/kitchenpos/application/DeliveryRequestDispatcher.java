@@ -0,0 +1,120 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.DeliveryRequestStatus;
+import kitchenpos.infra.KitchenridersClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class DeliveryRequestDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(DeliveryRequestDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final DeliveryRequestRepository deliveryRequestRepository;
+    private final KitchenridersClient kitchenridersClient;
+    private final MeterRegistry meterRegistry;
+    private final Timer sentTimer;
+    private final Timer failedTimer;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+
+    public DeliveryRequestDispatcher(
+        final DeliveryRequestRepository deliveryRequestRepository,
+        final KitchenridersClient kitchenridersClient,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.delivery.batch-size:100}") final int batchSize,
+        @Value("${kitchenpos.delivery.max-attempts:10}") final int maxAttempts,
+        @Value("${kitchenpos.delivery.initial-backoff:1s}") final Duration initialBackoff,
+        @Value("${kitchenpos.delivery.max-backoff:5m}") final Duration maxBackoff,
+        @Value("${kitchenpos.delivery.claim-timeout:1m}") final Duration claimTimeout
+    ) {
+        this.deliveryRequestRepository = deliveryRequestRepository;
+        this.kitchenridersClient = kitchenridersClient;
+        this.meterRegistry = meterRegistry;
+        this.sentTimer = kitchenridersTimer(meterRegistry, "success");
+        this.failedTimer = kitchenridersTimer(meterRegistry, "failure");
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.delivery.dispatch-interval-millis:1000}")
+    public void dispatch() {
+        List<DeliveryRequest> deliveryRequests;
+        do {
+            deliveryRequests = deliveryRequestRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                DeliveryRequestStatus.PENDING,
+                LocalDateTime.now(),
+                PageRequest.of(0, batchSize)
+            );
+            deliveryRequests.forEach(this::dispatch);
+        } while (deliveryRequests.size() == batchSize);
+    }
+
+    private void dispatch(final DeliveryRequest deliveryRequest) {
+        final LocalDateTime claimedUntil = LocalDateTime.now().plus(claimTimeout);
+        if (deliveryRequestRepository.claim(deliveryRequest.getId(), deliveryRequest.getAttempts(), claimedUntil) == 0) {
+            return;
+        }
+        final int attempts = deliveryRequest.getAttempts() + 1;
+        deliveryRequest.setAttempts(attempts);
+        deliveryRequest.setNextAttemptAt(claimedUntil);
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            kitchenridersClient.requestDelivery(
+                deliveryRequest.getId(),
+                deliveryRequest.getOrderId(),
+                deliveryRequest.getAmount(),
+                deliveryRequest.getDeliveryAddress()
+            );
+            sample.stop(sentTimer);
+            deliveryRequest.setStatus(DeliveryRequestStatus.SENT);
+            deliveryRequest.setLastError(null);
+        } catch (final RuntimeException e) {
+            sample.stop(failedTimer);
+            log.warn("delivery request {} failed (attempt {}/{})", deliveryRequest.getId(), attempts, maxAttempts, e);
+            deliveryRequest.setLastError(abbreviate(e));
+            if (attempts >= maxAttempts) {
+                deliveryRequest.setStatus(DeliveryRequestStatus.FAILED);
+            } else {
+                deliveryRequest.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+            }
+        }
+        deliveryRequestRepository.save(deliveryRequest);
+    }
+
+    private static Timer kitchenridersTimer(final MeterRegistry meterRegistry, final String outcome) {
+        return Timer.builder("kitchenpos.kitchenriders.requests")
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private Duration backoff(final int attempts) {
+        final Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private String abbreviate(final RuntimeException e) {
+        final String message = Objects.toString(e.getMessage(), e.getClass().getName());
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
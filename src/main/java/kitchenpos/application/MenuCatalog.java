@@ -0,0 +1,89 @@
+package kitchenpos.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+public class MenuCatalog {
+    private final MenuRepository menuRepository;
+    private final Cache<UUID, CatalogMenu> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public MenuCatalog(
+        final MenuRepository menuRepository,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.menu-catalog.maximum-size:10000}") final long maximumSize,
+        @Value("${kitchenpos.menu-catalog.expire-after-write:10m}") final Duration expireAfterWrite
+    ) {
+        this.menuRepository = menuRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "menuCatalog");
+    }
+
+    public Map<UUID, CatalogMenu> findAllByIdIn(final List<UUID> ids) {
+        final List<UUID> menuIds = ids.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        final Map<UUID, CatalogMenu> menus = new HashMap<>(cache.getAllPresent(menuIds));
+        if (menus.size() == menuIds.size()) {
+            return menus;
+        }
+        final List<UUID> missingIds = menuIds.stream()
+            .filter(menuId -> !menus.containsKey(menuId))
+            .collect(Collectors.toList());
+        final long loadedGeneration = generation.get();
+        for (final Menu menu : menuRepository.findAllByIdIn(missingIds)) {
+            final CatalogMenu catalogMenu = CatalogMenu.from(menu);
+            menus.put(catalogMenu.getId(), catalogMenu);
+            cache.asMap().compute(
+                catalogMenu.getId(),
+                (menuId, cached) -> generation.get() == loadedGeneration ? catalogMenu : cached
+            );
+        }
+        return menus;
+    }
+
+    public void evict(final UUID menuId) {
+        evictAll(Collections.singletonList(menuId));
+    }
+
+    public void evictAll(final Collection<UUID> menuIds) {
+        if (menuIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(menuIds);
+            return;
+        }
+        final List<UUID> evictedIds = new ArrayList<>(menuIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                invalidate(evictedIds);
+            }
+        });
+    }
+
+    private void invalidate(final Collection<UUID> menuIds) {
+        generation.incrementAndGet();
+        cache.invalidateAll(menuIds);
+    }
+}
@@ -4,17 +4,19 @@ import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuGroupRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.IdGenerator;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 @Service
 public class MenuGroupService {
     private final MenuGroupRepository menuGroupRepository;
+    private final IdGenerator idGenerator;
 
-    public MenuGroupService(final MenuGroupRepository menuGroupRepository) {
+    public MenuGroupService(final MenuGroupRepository menuGroupRepository, final IdGenerator idGenerator) {
         this.menuGroupRepository = menuGroupRepository;
+        this.idGenerator = idGenerator;
     }
 
     @Transactional
@@ -24,7 +26,7 @@ public class MenuGroupService {
             throw new IllegalArgumentException();
         }
         final MenuGroup menuGroup = new MenuGroup();
-        menuGroup.setId(UUID.randomUUID());
+        menuGroup.setId(idGenerator.generateId());
         menuGroup.setName(name);
         return menuGroupRepository.save(menuGroup);
     }
@@ -3,10 +3,16 @@ package kitchenpos.application;
 import kitchenpos.domain.*;
 import kitchenpos.infra.PurgomalumClient;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.IdGenerator;
 
+import javax.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -15,72 +21,100 @@ public class MenuService {
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
     private final PurgomalumClient purgomalumClient;
+    private final MenuCatalog menuCatalog;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final IdGenerator idGenerator;
+    private final EntityManager entityManager;
 
     public MenuService(
         final MenuRepository menuRepository,
         final MenuGroupRepository menuGroupRepository,
         final ProductRepository productRepository,
-        final PurgomalumClient purgomalumClient
+        final PurgomalumClient purgomalumClient,
+        final MenuCatalog menuCatalog,
+        final PlatformTransactionManager transactionManager,
+        final IdGenerator idGenerator,
+        final EntityManager entityManager
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
         this.purgomalumClient = purgomalumClient;
+        this.menuCatalog = menuCatalog;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.idGenerator = idGenerator;
+        this.entityManager = entityManager;
     }
 
-    @Transactional
     public Menu create(final Menu request) {
         final BigDecimal price = request.getPrice();
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException();
         }
+        final String name = request.getName();
+        final CompletableFuture<Boolean> profanity = Objects.isNull(name)
+            ? CompletableFuture.completedFuture(true)
+            : purgomalumClient.containsProfanityAsync(name);
+        final Menu menu = readOnlyTransaction.execute(status -> newMenu(request, price));
+        if (profanity.join()) {
+            throw new IllegalArgumentException();
+        }
+        return transaction.execute(status -> {
+            menu.setName(name);
+            menu.setMenuGroup(menuGroupRepository.getById(menu.getMenuGroup().getId()));
+            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
+                menuProduct.setProduct(productRepository.getById(menuProduct.getProduct().getId()));
+            }
+            entityManager.persist(menu);
+            return menu;
+        });
+    }
+
+    private Menu newMenu(final Menu request, final BigDecimal price) {
         final MenuGroup menuGroup = menuGroupRepository.findById(request.getMenuGroupId())
             .orElseThrow(NoSuchElementException::new);
         final List<MenuProduct> menuProductRequests = request.getMenuProducts();
         if (Objects.isNull(menuProductRequests) || menuProductRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Product> products = productRepository.findAllByIdIn(
+        final Map<UUID, Product> products = productRepository.findAllByIdIn(
             menuProductRequests.stream()
                 .map(MenuProduct::getProductId)
                 .collect(Collectors.toList())
-        );
+        ).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
         if (products.size() != menuProductRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<MenuProduct> menuProducts = new ArrayList<>();
-        BigDecimal sum = BigDecimal.ZERO;
         for (final MenuProduct menuProductRequest : menuProductRequests) {
             final long quantity = menuProductRequest.getQuantity();
             if (quantity < 0) {
                 throw new IllegalArgumentException();
             }
-            final Product product = productRepository.findById(menuProductRequest.getProductId())
-                .orElseThrow(NoSuchElementException::new);
-            sum = sum.add(
-                product.getPrice()
-                    .multiply(BigDecimal.valueOf(quantity))
-            );
+            final Product product = products.get(menuProductRequest.getProductId());
+            if (Objects.isNull(product)) {
+                throw new NoSuchElementException();
+            }
             final MenuProduct menuProduct = new MenuProduct();
             menuProduct.setProduct(product);
             menuProduct.setQuantity(quantity);
             menuProducts.add(menuProduct);
         }
-        if (price.compareTo(sum) > 0) {
-            throw new IllegalArgumentException();
-        }
-        final String name = request.getName();
-        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
+        final Money sum = Money.sum(menuProducts, menuProduct -> menuProduct.getProduct().price(), MenuProduct::getQuantity);
+        if (Money.of(price).isGreaterThan(sum)) {
             throw new IllegalArgumentException();
         }
         final Menu menu = new Menu();
-        menu.setId(UUID.randomUUID());
-        menu.setName(name);
+        menu.setId(idGenerator.generateId());
         menu.setPrice(price);
         menu.setMenuGroup(menuGroup);
         menu.setDisplayed(request.isDisplayed());
         menu.setMenuProducts(menuProducts);
-        return menuRepository.save(menu);
+        return menu;
     }
 
     @Transactional
@@ -89,17 +123,15 @@ public class MenuService {
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException();
         }
+        final Money menuPrice = Money.of(price);
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            final BigDecimal sum = menuProduct.getProduct()
-                .getPrice()
-                .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            if (price.compareTo(sum) > 0) {
-                throw new IllegalArgumentException();
-            }
+        final Money sum = Money.sum(menu.getMenuProducts(), menuProduct -> menuProduct.getProduct().price(), MenuProduct::getQuantity);
+        if (menuPrice.isGreaterThan(sum)) {
+            throw new IllegalArgumentException();
         }
         menu.setPrice(price);
+        menuCatalog.evict(menuId);
         return menu;
     }
 
@@ -107,15 +139,12 @@ public class MenuService {
     public Menu display(final UUID menuId) {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            final BigDecimal sum = menuProduct.getProduct()
-                .getPrice()
-                .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            if (menu.getPrice().compareTo(sum) > 0) {
-                throw new IllegalStateException();
-            }
+        final Money sum = Money.sum(menu.getMenuProducts(), menuProduct -> menuProduct.getProduct().price(), MenuProduct::getQuantity);
+        if (menu.price().isGreaterThan(sum)) {
+            throw new IllegalStateException();
         }
         menu.setDisplayed(true);
+        menuCatalog.evict(menuId);
         return menu;
     }
 
@@ -124,11 +153,12 @@ public class MenuService {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
         menu.setDisplayed(false);
+        menuCatalog.evict(menuId);
         return menu;
     }
 
     @Transactional(readOnly = true)
     public List<Menu> findAll() {
-        return menuRepository.findAll();
+        return menuRepository.findAllWithMenuProducts();
     }
 }
@@ -0,0 +1,37 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+import java.util.UUID;
+
+public final class OrderCreationResult {
+    private final UUID orderId;
+    private final boolean created;
+    private final String error;
+
+    private OrderCreationResult(final UUID orderId, final boolean created, final String error) {
+        this.orderId = orderId;
+        this.created = created;
+        this.error = error;
+    }
+
+    public static OrderCreationResult created(final Order order) {
+        return new OrderCreationResult(order.getId(), true, null);
+    }
+
+    public static OrderCreationResult rejected(final RuntimeException e) {
+        return new OrderCreationResult(null, false, e.getClass().getSimpleName());
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,87 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusCount;
+import kitchenpos.domain.OrderType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+public class OrderMetrics {
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final OrderRepository orderRepository;
+    private final Clock clock;
+    private final Timer[][] transitions = new Timer[TYPES.length][STATUSES.length];
+    private final Counter[][] rejections = new Counter[TYPES.length][STATUSES.length];
+    private final AtomicLongArray statusCounts = new AtomicLongArray(STATUSES.length);
+
+    public OrderMetrics(final OrderRepository orderRepository, final MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.clock = meterRegistry.config().clock();
+        for (final OrderType type : TYPES) {
+            for (final OrderStatus status : STATUSES) {
+                transitions[type.ordinal()][status.ordinal()] = Timer.builder("kitchenpos.order.transitions")
+                    .tag("type", type.name())
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+                rejections[type.ordinal()][status.ordinal()] = Counter.builder("kitchenpos.order.transitions.rejected")
+                    .tag("type", type.name())
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+            }
+        }
+        for (final OrderStatus status : STATUSES) {
+            Gauge.builder("kitchenpos.orders", statusCounts, counts -> counts.get(status.ordinal()))
+                .tag("status", status.name())
+                .register(meterRegistry);
+        }
+    }
+
+    public long start() {
+        return clock.monotonicTime();
+    }
+
+    public void transited(final OrderType type, final OrderStatus status, final long startedAt) {
+        final Timer timer = transitions[type.ordinal()][status.ordinal()];
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            timer.record(clock.monotonicTime() - startedAt, TimeUnit.NANOSECONDS);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                timer.record(clock.monotonicTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    public void rejected(final OrderType type, final OrderStatus status) {
+        rejections[type.ordinal()][status.ordinal()].increment();
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.metrics.order-status-refresh-interval-millis:30000}")
+    @Transactional(readOnly = true)
+    public void refreshStatusCounts() {
+        final long[] counts = new long[STATUSES.length];
+        for (final OrderStatusCount statusCount : orderRepository.countGroupByStatus()) {
+            counts[statusCount.getStatus().ordinal()] = statusCount.getCount();
+        }
+        for (int i = 0; i < counts.length; i++) {
+            statusCounts.set(i, counts[i]);
+        }
+    }
+}
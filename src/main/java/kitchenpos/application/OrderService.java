@@ -1,36 +1,67 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.*;
-import kitchenpos.infra.KitchenridersClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.IdGenerator;
 
+import javax.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_PAGE_SIZE = 500;
+    private static final int MAX_BULK_SIZE = 500;
+
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
+    private final MenuCatalog menuCatalog;
     private final OrderTableRepository orderTableRepository;
-    private final KitchenridersClient kitchenridersClient;
+    private final DeliveryRequestRepository deliveryRequestRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IdGenerator idGenerator;
+    private final OrderMetrics orderMetrics;
+    private final EntityManager entityManager;
 
     public OrderService(
         final OrderRepository orderRepository,
         final MenuRepository menuRepository,
+        final MenuCatalog menuCatalog,
         final OrderTableRepository orderTableRepository,
-        final KitchenridersClient kitchenridersClient
+        final DeliveryRequestRepository deliveryRequestRepository,
+        final PlatformTransactionManager transactionManager,
+        final ApplicationEventPublisher eventPublisher,
+        final IdGenerator idGenerator,
+        final OrderMetrics orderMetrics,
+        final EntityManager entityManager
     ) {
         this.orderRepository = orderRepository;
         this.menuRepository = menuRepository;
+        this.menuCatalog = menuCatalog;
         this.orderTableRepository = orderTableRepository;
-        this.kitchenridersClient = kitchenridersClient;
+        this.deliveryRequestRepository = deliveryRequestRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
+        this.idGenerator = idGenerator;
+        this.orderMetrics = orderMetrics;
+        this.entityManager = entityManager;
     }
 
     @Transactional
     public Order create(final Order request) {
+        final long startedAt = orderMetrics.start();
         final OrderType type = request.getType();
         if (Objects.isNull(type)) {
             throw new IllegalArgumentException();
@@ -39,11 +70,94 @@ public class OrderService {
         if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Menu> menus = menuRepository.findAllByIdIn(
+        final Map<UUID, CatalogMenu> menus = menuCatalog.findAllByIdIn(
             orderLineItemRequests.stream()
                 .map(OrderLineItem::getMenuId)
                 .collect(Collectors.toList())
         );
+        final Order order = newOrder(request, menus, orderTableRepository::findById);
+        if (Objects.nonNull(order.getOrderTable())) {
+            orderTableRepository.increaseActiveOrderCount(order.getOrderTable().getId(), 1);
+        }
+        eventPublisher.publishEvent(OrderStatusChanged.of(order, null, OrderStatus.WAITING));
+        final Order saved = orderRepository.save(order);
+        orderMetrics.transited(type, OrderStatus.WAITING, startedAt);
+        return saved;
+    }
+
+    @Transactional
+    public List<OrderCreationResult> createAll(final List<Order> requests) {
+        final long startedAt = orderMetrics.start();
+        if (Objects.isNull(requests) || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, CatalogMenu> menus = menuCatalog.findAllByIdIn(
+            requests.stream()
+                .map(Order::getOrderLineItems)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(OrderLineItem::getMenuId)
+                .collect(Collectors.toList())
+        );
+        final Map<UUID, OrderTable> orderTables = orderTableRepository.findAllById(
+            requests.stream()
+                .map(Order::getOrderTableId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet())
+        )
+            .stream()
+            .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+        final List<OrderCreationResult> results = new ArrayList<>();
+        final List<Order> orders = new ArrayList<>();
+        for (final Order request : requests) {
+            try {
+                final Order order = newOrder(request, menusOf(request, menus), orderTableId ->
+                    Optional.ofNullable(orderTableId).map(orderTables::get)
+                );
+                orders.add(order);
+                results.add(OrderCreationResult.created(order));
+            } catch (final IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                results.add(OrderCreationResult.rejected(e));
+            }
+        }
+        orders.stream()
+            .map(Order::getOrderTable)
+            .filter(Objects::nonNull)
+            .collect(Collectors.groupingBy(OrderTable::getId, Collectors.counting()))
+            .forEach((orderTableId, count) ->
+                orderTableRepository.increaseActiveOrderCount(orderTableId, count.intValue())
+            );
+        orderRepository.saveAll(orders);
+        orders.forEach(order -> eventPublisher.publishEvent(OrderStatusChanged.of(order, null, OrderStatus.WAITING)));
+        orders.forEach(order -> orderMetrics.transited(order.getType(), OrderStatus.WAITING, startedAt));
+        return results;
+    }
+
+    private Map<UUID, CatalogMenu> menusOf(final Order request, final Map<UUID, CatalogMenu> menus) {
+        final List<OrderLineItem> orderLineItemRequests = request.getOrderLineItems();
+        if (Objects.isNull(orderLineItemRequests)) {
+            return Collections.emptyMap();
+        }
+        return orderLineItemRequests.stream()
+            .map(OrderLineItem::getMenuId)
+            .filter(menus::containsKey)
+            .distinct()
+            .collect(Collectors.toMap(Function.identity(), menus::get));
+    }
+
+    private Order newOrder(
+        final Order request,
+        final Map<UUID, CatalogMenu> menus,
+        final Function<UUID, Optional<OrderTable>> orderTables
+    ) {
+        final OrderType type = request.getType();
+        if (Objects.isNull(type)) {
+            throw new IllegalArgumentException();
+        }
+        final List<OrderLineItem> orderLineItemRequests = request.getOrderLineItems();
+        if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
         if (menus.size() != orderLineItemRequests.size()) {
             throw new IllegalArgumentException();
         }
@@ -55,8 +169,10 @@ public class OrderService {
                     throw new IllegalArgumentException();
                 }
             }
-            final Menu menu = menuRepository.findById(orderLineItemRequest.getMenuId())
-                .orElseThrow(NoSuchElementException::new);
+            final CatalogMenu menu = menus.get(orderLineItemRequest.getMenuId());
+            if (Objects.isNull(menu)) {
+                throw new NoSuchElementException();
+            }
             if (!menu.isDisplayed()) {
                 throw new IllegalStateException();
             }
@@ -64,16 +180,18 @@ public class OrderService {
                 throw new IllegalArgumentException();
             }
             final OrderLineItem orderLineItem = new OrderLineItem();
-            orderLineItem.setMenu(menu);
+            orderLineItem.setMenu(menuRepository.getById(menu.getId()));
+            orderLineItem.setPrice(menu.getPrice());
             orderLineItem.setQuantity(quantity);
             orderLineItems.add(orderLineItem);
         }
         Order order = new Order();
-        order.setId(UUID.randomUUID());
+        order.setId(idGenerator.generateId());
         order.setType(type);
         order.setStatus(OrderStatus.WAITING);
         order.setOrderDateTime(LocalDateTime.now());
         order.setOrderLineItems(orderLineItems);
+        order.totalPrice(Money.sum(orderLineItems, OrderLineItem::price, OrderLineItem::getQuantity));
         if (type == OrderType.DELIVERY) {
             final String deliveryAddress = request.getDeliveryAddress();
             if (Objects.isNull(deliveryAddress) || deliveryAddress.isEmpty()) {
@@ -82,92 +200,65 @@ public class OrderService {
             order.setDeliveryAddress(deliveryAddress);
         }
         if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = orderTableRepository.findById(request.getOrderTableId())
+            final OrderTable orderTable = orderTables.apply(request.getOrderTableId())
                 .orElseThrow(NoSuchElementException::new);
             if (orderTable.isEmpty()) {
                 throw new IllegalStateException();
             }
             order.setOrderTable(orderTable);
         }
-        return orderRepository.save(order);
+        return order;
     }
 
     @Transactional
     public Order accept(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.WAITING) {
-            throw new IllegalStateException();
-        }
+        final Order order = transit(orderId, OrderStatus.ACCEPTED);
         if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
-            }
-            kitchenridersClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
+            final LocalDateTime now = LocalDateTime.now();
+            final DeliveryRequest deliveryRequest = new DeliveryRequest();
+            deliveryRequest.setId(idGenerator.generateId());
+            deliveryRequest.setOrderId(orderId);
+            deliveryRequest.setAmount(deliveryAmount(order));
+            deliveryRequest.setDeliveryAddress(order.getDeliveryAddress());
+            deliveryRequest.setStatus(DeliveryRequestStatus.PENDING);
+            deliveryRequest.setAttempts(0);
+            deliveryRequest.setNextAttemptAt(now);
+            deliveryRequest.setCreatedAt(now);
+            deliveryRequestRepository.save(deliveryRequest);
         }
-        order.setStatus(OrderStatus.ACCEPTED);
         return order;
     }
 
+    private static BigDecimal deliveryAmount(final Order order) {
+        if (!order.isPriceMissing()) {
+            return order.getTotalPrice();
+        }
+        return Money.sum(order.getOrderLineItems(), orderLineItem -> orderLineItem.getMenu().price(), OrderLineItem::getQuantity)
+            .toBigDecimal();
+    }
+
     @Transactional
     public Order serve(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.ACCEPTED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.SERVED);
-        return order;
+        return transit(orderId, OrderStatus.SERVED);
     }
 
     @Transactional
     public Order startDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.SERVED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERING);
-        return order;
+        return transit(orderId, OrderStatus.DELIVERING);
     }
 
     @Transactional
     public Order completeDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.DELIVERING) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERED);
-        return order;
+        return transit(orderId, OrderStatus.DELIVERED);
     }
 
     @Transactional
     public Order complete(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        final OrderType type = order.getType();
-        final OrderStatus status = order.getStatus();
-        if (type == OrderType.DELIVERY) {
-            if (status != OrderStatus.DELIVERED) {
-                throw new IllegalStateException();
-            }
-        }
-        if (type == OrderType.TAKEOUT || type == OrderType.EAT_IN) {
-            if (status != OrderStatus.SERVED) {
-                throw new IllegalStateException();
-            }
-        }
-        order.setStatus(OrderStatus.COMPLETED);
-        if (type == OrderType.EAT_IN) {
+        final Order order = transit(orderId, OrderStatus.COMPLETED);
+        if (order.getType() == OrderType.EAT_IN) {
             final OrderTable orderTable = order.getOrderTable();
-            if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
+            orderTableRepository.decreaseActiveOrderCount(orderTable.getId());
+            if (orderTableRepository.findActiveOrderCountById(orderTable.getId()) == 0) {
                 orderTable.setNumberOfGuests(0);
                 orderTable.setEmpty(true);
             }
@@ -175,8 +266,55 @@ public class OrderService {
         return order;
     }
 
+    private Order transit(final UUID orderId, final OrderStatus target) {
+        final long startedAt = orderMetrics.start();
+        final Order order = orderRepository.findById(orderId)
+            .orElseThrow(NoSuchElementException::new);
+        final OrderType type = order.getType();
+        final OrderStatus source = order.getStatus();
+        if (!OrderStatusTransitions.isAllowed(type, source, target)) {
+            orderMetrics.rejected(type, target);
+            throw new IllegalStateException();
+        }
+        order.setStatus(target);
+        try {
+            orderRepository.saveAndFlush(order);
+        } catch (final OptimisticLockingFailureException e) {
+            orderMetrics.rejected(type, target);
+            throw new IllegalStateException(e);
+        }
+        eventPublisher.publishEvent(OrderStatusChanged.of(order, source, target));
+        orderMetrics.transited(type, target, startedAt);
+        return order;
+    }
+
     @Transactional(readOnly = true)
-    public List<Order> findAll() {
-        return orderRepository.findAll();
+    public List<Order> findAll(
+        final OrderStatus status,
+        final OrderType type,
+        final OrderCursor cursor,
+        final int size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        return orderRepository.findAllByCursor(status, type, cursor, size);
+    }
+
+    public void streamAll(final OrderStatus status, final OrderType type, final Consumer<List<Order>> consumer) {
+        OrderCursor cursor = null;
+        List<Order> orders;
+        do {
+            final OrderCursor after = cursor;
+            orders = readOnlyTransaction.execute(transactionStatus -> {
+                final List<Order> page = orderRepository.findAllByCursor(status, type, after, STREAM_PAGE_SIZE);
+                consumer.accept(page);
+                entityManager.clear();
+                return page;
+            });
+            if (!orders.isEmpty()) {
+                cursor = OrderCursor.from(orders.get(orders.size() - 1));
+            }
+        } while (orders.size() == STREAM_PAGE_SIZE);
     }
 }
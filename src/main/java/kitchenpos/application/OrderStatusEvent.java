@@ -0,0 +1,21 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatusChanged;
+
+public final class OrderStatusEvent {
+    private final long id;
+    private final OrderStatusChanged change;
+
+    public OrderStatusEvent(final long id, final OrderStatusChanged change) {
+        this.id = id;
+        this.change = change;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public OrderStatusChanged getChange() {
+        return change;
+    }
+}
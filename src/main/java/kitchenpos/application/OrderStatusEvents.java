@@ -0,0 +1,102 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatusChanged;
+import kitchenpos.domain.OrderType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+@Component
+public class OrderStatusEvents {
+    private final int historySize;
+    private final int bufferSize;
+    private final Executor executor;
+    private final Deque<OrderStatusEvent> history = new ArrayDeque<>();
+    private final Set<OrderStatusSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private long lastEventId;
+
+    @Autowired
+    public OrderStatusEvents(
+        @Value("${kitchenpos.order-events.history-size:1000}") final int historySize,
+        @Value("${kitchenpos.order-events.buffer-size:100}") final int bufferSize,
+        @Value("${kitchenpos.order-events.pool-size:4}") final int poolSize,
+        @Value("${kitchenpos.order-events.queue-capacity:1000}") final int queueCapacity
+    ) {
+        this(
+            historySize,
+            bufferSize,
+            new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("order-events-")
+            )
+        );
+    }
+
+    OrderStatusEvents(final int historySize, final int bufferSize, final Executor executor) {
+        if (historySize < 0 || bufferSize < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.historySize = historySize;
+        this.bufferSize = bufferSize;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener
+    public void publish(final OrderStatusChanged change) {
+        synchronized (history) {
+            final OrderStatusEvent event = new OrderStatusEvent(++lastEventId, change);
+            history.addLast(event);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            subscriptions.forEach(subscription -> subscription.offer(event));
+        }
+    }
+
+    public OrderStatusSubscription subscribe(
+        final OrderType type,
+        final UUID orderTableId,
+        final Long lastEventId,
+        final OrderStatusSink sink
+    ) {
+        synchronized (history) {
+            final List<OrderStatusEvent> missed = Objects.isNull(lastEventId)
+                ? Collections.emptyList()
+                : history.stream()
+                    .filter(event -> event.getId() > lastEventId)
+                    .collect(Collectors.toList());
+            final OrderStatusSubscription subscription = new OrderStatusSubscription(
+                type,
+                orderTableId,
+                bufferSize + missed.size(),
+                sink,
+                executor,
+                subscriptions::remove
+            );
+            missed.forEach(subscription::offer);
+            if (!subscription.isCancelled()) {
+                subscriptions.add(subscription);
+            }
+            return subscription;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        subscriptions.forEach(OrderStatusSubscription::cancel);
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+}
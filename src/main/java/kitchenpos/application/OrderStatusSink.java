@@ -0,0 +1,9 @@
+package kitchenpos.application;
+
+import java.io.IOException;
+
+public interface OrderStatusSink {
+    void send(OrderStatusEvent event) throws IOException;
+
+    void close();
+}
@@ -0,0 +1,98 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatusChanged;
+import kitchenpos.domain.OrderType;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+public class OrderStatusSubscription {
+    private final OrderType type;
+    private final UUID orderTableId;
+    private final BlockingQueue<OrderStatusEvent> buffer;
+    private final OrderStatusSink sink;
+    private final Executor executor;
+    private final Consumer<OrderStatusSubscription> onCancel;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    OrderStatusSubscription(
+        final OrderType type,
+        final UUID orderTableId,
+        final int capacity,
+        final OrderStatusSink sink,
+        final Executor executor,
+        final Consumer<OrderStatusSubscription> onCancel
+    ) {
+        this.type = type;
+        this.orderTableId = orderTableId;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.sink = sink;
+        this.executor = executor;
+        this.onCancel = onCancel;
+    }
+
+    boolean matches(final OrderStatusChanged change) {
+        if (Objects.nonNull(type) && type != change.getType()) {
+            return false;
+        }
+        return Objects.isNull(orderTableId) || orderTableId.equals(change.getOrderTableId());
+    }
+
+    void offer(final OrderStatusEvent event) {
+        if (cancelled.get() || !matches(event.getChange())) {
+            return;
+        }
+        if (!buffer.offer(event)) {
+            cancel();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            buffer.clear();
+            onCancel.accept(this);
+            sink.close();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (final RejectedExecutionException e) {
+                draining.set(false);
+                cancel();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            OrderStatusEvent event;
+            while (!cancelled.get() && Objects.nonNull(event = buffer.poll())) {
+                sink.send(event);
+            }
+        } catch (final IOException | RuntimeException e) {
+            cancel();
+        } finally {
+            draining.set(false);
+        }
+        if (!cancelled.get() && !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package kitchenpos.application;
 
-import kitchenpos.domain.OrderRepository;
-import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.IdGenerator;
 
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -15,11 +14,14 @@ import java.util.UUID;
 @Service
 public class OrderTableService {
     private final OrderTableRepository orderTableRepository;
-    private final OrderRepository orderRepository;
+    private final IdGenerator idGenerator;
 
-    public OrderTableService(final OrderTableRepository orderTableRepository, final OrderRepository orderRepository) {
+    public OrderTableService(
+        final OrderTableRepository orderTableRepository,
+        final IdGenerator idGenerator
+    ) {
         this.orderTableRepository = orderTableRepository;
-        this.orderRepository = orderRepository;
+        this.idGenerator = idGenerator;
     }
 
     @Transactional
@@ -29,7 +31,7 @@ public class OrderTableService {
             throw new IllegalArgumentException();
         }
         final OrderTable orderTable = new OrderTable();
-        orderTable.setId(UUID.randomUUID());
+        orderTable.setId(idGenerator.generateId());
         orderTable.setName(name);
         orderTable.setNumberOfGuests(0);
         orderTable.setEmpty(true);
@@ -48,7 +50,7 @@ public class OrderTableService {
     public OrderTable clear(final UUID orderTableId) {
         final OrderTable orderTable = orderTableRepository.findById(orderTableId)
             .orElseThrow(NoSuchElementException::new);
-        if (orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
+        if (orderTable.getActiveOrderCount() > 0) {
             throw new IllegalStateException();
         }
         orderTable.setNumberOfGuests(0);
@@ -0,0 +1,23 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Product;
+
+import java.util.List;
+
+public final class ProductPriceChangeResult {
+    private final List<Product> products;
+    private final int hiddenMenuCount;
+
+    public ProductPriceChangeResult(final List<Product> products, final int hiddenMenuCount) {
+        this.products = products;
+        this.hiddenMenuCount = hiddenMenuCount;
+    }
+
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    public int getHiddenMenuCount() {
+        return hiddenMenuCount;
+    }
+}
@@ -4,30 +4,35 @@ import kitchenpos.domain.*;
 import kitchenpos.infra.PurgomalumClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.IdGenerator;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
     private final ProductRepository productRepository;
     private final MenuRepository menuRepository;
     private final PurgomalumClient purgomalumClient;
+    private final MenuCatalog menuCatalog;
+    private final IdGenerator idGenerator;
 
     public ProductService(
         final ProductRepository productRepository,
         final MenuRepository menuRepository,
-        final PurgomalumClient purgomalumClient
+        final PurgomalumClient purgomalumClient,
+        final MenuCatalog menuCatalog,
+        final IdGenerator idGenerator
     ) {
         this.productRepository = productRepository;
         this.menuRepository = menuRepository;
         this.purgomalumClient = purgomalumClient;
+        this.menuCatalog = menuCatalog;
+        this.idGenerator = idGenerator;
     }
 
-    @Transactional
     public Product create(final Product request) {
         final BigDecimal price = request.getPrice();
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
@@ -38,7 +43,7 @@ public class ProductService {
             throw new IllegalArgumentException();
         }
         final Product product = new Product();
-        product.setId(UUID.randomUUID());
+        product.setId(idGenerator.generateId());
         product.setName(name);
         product.setPrice(price);
         return productRepository.save(product);
@@ -54,20 +59,59 @@ public class ProductService {
             .orElseThrow(NoSuchElementException::new);
         product.setPrice(price);
         final List<Menu> menus = menuRepository.findAllByProductId(productId);
+        final List<UUID> hiddenMenuIds = new ArrayList<>();
         for (final Menu menu : menus) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-                sum = menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()));
-            }
-            if (menu.getPrice().compareTo(sum) > 0) {
+            final Money sum = Money.sum(
+                menu.getMenuProducts(),
+                menuProduct -> menuProduct.getProduct().price(),
+                MenuProduct::getQuantity
+            );
+            if (menu.price().isGreaterThan(sum)) {
                 menu.setDisplayed(false);
+                hiddenMenuIds.add(menu.getId());
             }
         }
+        menuCatalog.evictAll(hiddenMenuIds);
         return product;
     }
 
+    @Transactional
+    public ProductPriceChangeResult changePrices(final List<Product> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, BigDecimal> prices = new LinkedHashMap<>();
+        for (final Product request : requests) {
+            final BigDecimal price = request.getPrice();
+            if (Objects.isNull(request.getId()) || Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+                throw new IllegalArgumentException();
+            }
+            if (Objects.nonNull(prices.put(request.getId(), price))) {
+                throw new IllegalArgumentException();
+            }
+        }
+        final List<UUID> productIds = new ArrayList<>(prices.keySet());
+        final Map<UUID, Product> products = productRepository.findAllByIdIn(productIds)
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        if (products.size() != productIds.size()) {
+            throw new NoSuchElementException();
+        }
+        prices.forEach((productId, price) -> products.get(productId).setPrice(price));
+        final List<UUID> hiddenMenuIds = menuRepository.findAllDisplayedIdsPricedAboveProductsByProductIdIn(productIds);
+        int hiddenMenuCount = 0;
+        if (!hiddenMenuIds.isEmpty()) {
+            hiddenMenuCount = menuRepository.hideAllByIdIn(hiddenMenuIds);
+            menuCatalog.evictAll(hiddenMenuIds);
+        }
+        return new ProductPriceChangeResult(
+            productIds.stream()
+                .map(products::get)
+                .collect(Collectors.toList()),
+            hiddenMenuCount
+        );
+    }
+
     @Transactional(readOnly = true)
     public List<Product> findAll() {
         return productRepository.findAll();
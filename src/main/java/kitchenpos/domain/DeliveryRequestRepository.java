@@ -0,0 +1,26 @@
+package kitchenpos.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface DeliveryRequestRepository extends JpaRepository<DeliveryRequest, UUID> {
+    List<DeliveryRequest> findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+        DeliveryRequestStatus status,
+        LocalDateTime now,
+        Pageable pageable
+    );
+
+    @Transactional
+    @Modifying
+    @Query("update DeliveryRequest d set d.attempts = d.attempts + 1, d.nextAttemptAt = :claimedUntil"
+        + " where d.id = :id and d.status = kitchenpos.domain.DeliveryRequestStatus.PENDING and d.attempts = :attempts")
+    int claim(@Param("id") UUID id, @Param("attempts") int attempts, @Param("claimedUntil") LocalDateTime claimedUntil);
+}
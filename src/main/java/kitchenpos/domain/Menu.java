@@ -1,12 +1,16 @@
 package kitchenpos.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import javax.persistence.*;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Table(name = "menu")
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Menu {
     @Column(name = "id", columnDefinition = "varbinary(16)")
     @Id
@@ -16,7 +20,8 @@ public class Menu {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    @Convert(converter = MoneyConverter.class)
+    private Money price;
 
     @ManyToOne(optional = false)
     @JoinColumn(
@@ -61,11 +66,15 @@ public class Menu {
     }
 
     public BigDecimal getPrice() {
-        return price;
+        return Objects.isNull(price) ? null : price.toBigDecimal();
     }
 
     public void setPrice(final BigDecimal price) {
-        this.price = price;
+        this.price = Objects.isNull(price) ? null : Money.of(price);
+    }
+
+    public Money price() {
+        return price;
     }
 
     public MenuGroup getMenuGroup() {
@@ -1,5 +1,8 @@
 package kitchenpos.domain;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import javax.persistence.*;
 import java.util.UUID;
 
@@ -7,7 +10,19 @@ import java.util.UUID;
 @Entity
 public class MenuProduct {
     @Column(name = "seq")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "menu_product_seq")
+    @GenericGenerator(
+        name = "menu_product_seq",
+        strategy = "kitchenpos.infra.IsolatedTableGenerator",
+        parameters = {
+            @Parameter(name = "table_name", value = "id_generator"),
+            @Parameter(name = "segment_column_name", value = "sequence_name"),
+            @Parameter(name = "value_column_name", value = "next_val"),
+            @Parameter(name = "segment_value", value = "menu_product"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled")
+        }
+    )
     @Id
     private Long seq;
 
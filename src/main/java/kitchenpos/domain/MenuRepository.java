@@ -1,6 +1,8 @@
 package kitchenpos.domain;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -8,8 +10,26 @@ import java.util.List;
 import java.util.UUID;
 
 public interface MenuRepository extends JpaRepository<Menu, UUID> {
+    @EntityGraph(attributePaths = "menuGroup")
     List<Menu> findAllByIdIn(List<UUID> ids);
 
-    @Query("select m from Menu m, MenuProduct mp where mp.product.id = :productId")
+    @EntityGraph(attributePaths = {"menuGroup", "menuProducts.product"})
+    @Query("select distinct m from Menu m")
+    List<Menu> findAllWithMenuProducts();
+
+    @EntityGraph(attributePaths = {"menuGroup", "menuProducts.product"})
+    @Query("select distinct m from Menu m where m.id in ("
+        + "select pm.id from Menu pm join pm.menuProducts mp where mp.product.id = :productId)")
     List<Menu> findAllByProductId(@Param("productId") UUID productId);
+
+    @Query("select m.id from Menu m join m.menuProducts mp join mp.product p"
+        + " where m.displayed = true and m.id in ("
+        + "select pm.id from Menu pm join pm.menuProducts pmp where pmp.product.id in :productIds)"
+        + " group by m.id, m.price"
+        + " having m.price > sum(p.price * mp.quantity)")
+    List<UUID> findAllDisplayedIdsPricedAboveProductsByProductIdIn(@Param("productIds") List<UUID> productIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Menu m set m.displayed = false where m.id in :ids")
+    int hideAllByIdIn(@Param("ids") List<UUID> ids);
 }
@@ -0,0 +1,96 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0L);
+
+    private static final int SCALE = 2;
+
+    private final long minorUnits;
+
+    private Money(final long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money of(final BigDecimal amount) {
+        if (Objects.isNull(amount)) {
+            throw new IllegalArgumentException();
+        }
+        try {
+            return ofMinorUnits(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public static Money ofMinorUnits(final long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    public static <T> Money sum(
+        final Iterable<T> items,
+        final Function<? super T, Money> price,
+        final ToLongFunction<? super T> quantity
+    ) {
+        long total = 0L;
+        for (final T item : items) {
+            total = Math.addExact(total, Math.multiplyExact(price.apply(item).minorUnits, quantity.applyAsLong(item)));
+        }
+        return ofMinorUnits(total);
+    }
+
+    public Money plus(final Money other) {
+        return ofMinorUnits(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(final long quantity) {
+        return ofMinorUnits(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0L;
+    }
+
+    public boolean isGreaterThan(final Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money)) {
+            return false;
+        }
+        return minorUnits == ((Money) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,19 @@
+package kitchenpos.domain;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+    @Override
+    public BigDecimal convertToDatabaseColumn(final Money attribute) {
+        return Objects.isNull(attribute) ? null : attribute.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(final BigDecimal dbData) {
+        return Objects.isNull(dbData) ? null : Money.of(dbData);
+    }
+}
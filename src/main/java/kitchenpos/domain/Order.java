@@ -1,8 +1,10 @@
 package kitchenpos.domain;
 
 import javax.persistence.*;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Table(name = "orders")
@@ -32,6 +34,13 @@ public class Order {
     )
     private List<OrderLineItem> orderLineItems;
 
+    @Column(name = "total_price")
+    @Convert(converter = MoneyConverter.class)
+    private Money totalPrice;
+
+    @Column(name = "price_missing", nullable = false)
+    private boolean priceMissing;
+
     @Column(name = "delivery_address")
     private String deliveryAddress;
 
@@ -43,6 +52,10 @@ public class Order {
     )
     private OrderTable orderTable;
 
+    @Column(name = "version", nullable = false)
+    @Version
+    private Long version;
+
     @Transient
     private UUID orderTableId;
 
@@ -89,6 +102,30 @@ public class Order {
         this.orderLineItems = orderLineItems;
     }
 
+    public BigDecimal getTotalPrice() {
+        return Objects.isNull(totalPrice) ? null : totalPrice.toBigDecimal();
+    }
+
+    public void setTotalPrice(final BigDecimal totalPrice) {
+        this.totalPrice = Objects.isNull(totalPrice) ? null : Money.of(totalPrice);
+    }
+
+    public Money totalPrice() {
+        return totalPrice;
+    }
+
+    public void totalPrice(final Money totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    public boolean isPriceMissing() {
+        return priceMissing;
+    }
+
+    public void setPriceMissing(final boolean priceMissing) {
+        this.priceMissing = priceMissing;
+    }
+
     public String getDeliveryAddress() {
         return deliveryAddress;
     }
@@ -105,6 +142,14 @@ public class Order {
         this.orderTable = orderTable;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
     public UUID getOrderTableId() {
         return orderTableId;
     }
@@ -0,0 +1,54 @@
+package kitchenpos.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class OrderCursor {
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime orderDateTime;
+    private final UUID id;
+
+    public OrderCursor(final LocalDateTime orderDateTime, final UUID id) {
+        if (Objects.isNull(orderDateTime) || Objects.isNull(id)) {
+            throw new IllegalArgumentException();
+        }
+        this.orderDateTime = orderDateTime;
+        this.id = id;
+    }
+
+    public static OrderCursor from(final Order order) {
+        return new OrderCursor(order.getOrderDateTime(), order.getId());
+    }
+
+    public static OrderCursor decode(final String value) {
+        if (Objects.isNull(value) || value.isEmpty()) {
+            return null;
+        }
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            final String[] parts = decoded.split(DELIMITER, 2);
+            return new OrderCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (final RuntimeException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public String encode() {
+        final String value = orderDateTime + DELIMITER + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -1,18 +1,34 @@
 package kitchenpos.domain;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import javax.persistence.*;
 import java.math.BigDecimal;
+import java.util.Objects;
 import java.util.UUID;
 
 @Table(name = "order_line_item")
 @Entity
 public class OrderLineItem {
     @Column(name = "seq")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "order_line_item_seq")
+    @GenericGenerator(
+        name = "order_line_item_seq",
+        strategy = "kitchenpos.infra.IsolatedTableGenerator",
+        parameters = {
+            @Parameter(name = "table_name", value = "id_generator"),
+            @Parameter(name = "segment_column_name", value = "sequence_name"),
+            @Parameter(name = "value_column_name", value = "next_val"),
+            @Parameter(name = "segment_value", value = "order_line_item"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled")
+        }
+    )
     @Id
     private Long seq;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(
         name = "menu_id",
         columnDefinition = "varbinary(16)",
@@ -23,11 +39,12 @@ public class OrderLineItem {
     @Column(name = "quantity", nullable = false)
     private long quantity;
 
-    @Transient
-    private UUID menuId;
+    @Column(name = "price")
+    @Convert(converter = MoneyConverter.class)
+    private Money price;
 
     @Transient
-    private BigDecimal price;
+    private UUID menuId;
 
     public OrderLineItem() {
     }
@@ -65,10 +82,14 @@ public class OrderLineItem {
     }
 
     public BigDecimal getPrice() {
-        return price;
+        return Objects.isNull(price) ? null : price.toBigDecimal();
     }
 
     public void setPrice(final BigDecimal price) {
-        this.price = price;
+        this.price = Objects.isNull(price) ? null : Money.of(price);
+    }
+
+    public Money price() {
+        return price;
     }
 }
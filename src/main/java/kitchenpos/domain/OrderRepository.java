@@ -1,9 +1,12 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
-public interface OrderRepository extends JpaRepository<Order, UUID> {
-    boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
+public interface OrderRepository extends JpaRepository<Order, UUID>, OrderSearchRepository {
+    @Query("select o.status as status, count(o) as count from Order o group by o.status")
+    List<OrderStatusCount> countGroupByStatus();
 }
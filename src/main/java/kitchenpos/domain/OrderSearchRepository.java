@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public interface OrderSearchRepository {
+    List<Order> findAllByCursor(OrderStatus status, OrderType type, OrderCursor cursor, int size);
+}
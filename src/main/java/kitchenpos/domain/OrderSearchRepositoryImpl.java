@@ -0,0 +1,77 @@
+package kitchenpos.domain;
+
+import org.hibernate.jpa.QueryHints;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class OrderSearchRepositoryImpl implements OrderSearchRepository {
+    private static final String FIND_ALL_WITH_MENUS_BY_ID_IN = "select distinct o from Order o"
+        + " left join fetch o.orderTable"
+        + " left join fetch o.orderLineItems oli"
+        + " left join fetch oli.menu m"
+        + " left join fetch m.menuGroup"
+        + " where o.id in :ids";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Order> findAllByCursor(
+        final OrderStatus status,
+        final OrderType type,
+        final OrderCursor cursor,
+        final int size
+    ) {
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<UUID> query = builder.createQuery(UUID.class);
+        final Root<Order> order = query.from(Order.class);
+        final List<Predicate> predicates = new ArrayList<>();
+        if (Objects.nonNull(status)) {
+            predicates.add(builder.equal(order.get("status"), status));
+        }
+        if (Objects.nonNull(type)) {
+            predicates.add(builder.equal(order.get("type"), type));
+        }
+        if (Objects.nonNull(cursor)) {
+            predicates.add(builder.lessThanOrEqualTo(order.get("orderDateTime"), cursor.getOrderDateTime()));
+            predicates.add(builder.or(
+                builder.lessThan(order.<LocalDateTime>get("orderDateTime"), cursor.getOrderDateTime()),
+                builder.and(
+                    builder.equal(order.get("orderDateTime"), cursor.getOrderDateTime()),
+                    builder.lessThan(order.<UUID>get("id"), cursor.getId())
+                )
+            ));
+        }
+        query.select(order.get("id"))
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(builder.desc(order.get("orderDateTime")), builder.desc(order.get("id")));
+        final List<UUID> ids = entityManager.createQuery(query)
+            .setMaxResults(size)
+            .getResultList();
+        return findAllWithMenusByIdIn(ids);
+    }
+
+    private List<Order> findAllWithMenusByIdIn(final List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<UUID, Order> orders = entityManager.createQuery(FIND_ALL_WITH_MENUS_BY_ID_IN, Order.class)
+            .setParameter("ids", ids)
+            .setHint(QueryHints.HINT_PASS_DISTINCT_THROUGH, false)
+            .getResultList()
+            .stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+        return ids.stream()
+            .map(orders::get)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,66 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class OrderStatusChanged {
+    private final UUID orderId;
+    private final OrderType type;
+    private final UUID orderTableId;
+    private final OrderStatus source;
+    private final OrderStatus target;
+    private final LocalDateTime changedAt;
+
+    public OrderStatusChanged(
+        final UUID orderId,
+        final OrderType type,
+        final UUID orderTableId,
+        final OrderStatus source,
+        final OrderStatus target,
+        final LocalDateTime changedAt
+    ) {
+        this.orderId = orderId;
+        this.type = type;
+        this.orderTableId = orderTableId;
+        this.source = source;
+        this.target = target;
+        this.changedAt = changedAt;
+    }
+
+    public static OrderStatusChanged of(final Order order, final OrderStatus source, final OrderStatus target) {
+        final OrderTable orderTable = order.getOrderTable();
+        return new OrderStatusChanged(
+            order.getId(),
+            order.getType(),
+            Objects.isNull(orderTable) ? null : orderTable.getId(),
+            source,
+            target,
+            LocalDateTime.now()
+        );
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+
+    public OrderStatus getSource() {
+        return source;
+    }
+
+    public OrderStatus getTarget() {
+        return target;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
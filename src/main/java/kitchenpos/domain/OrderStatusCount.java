@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+public interface OrderStatusCount {
+    OrderStatus getStatus();
+
+    long getCount();
+}
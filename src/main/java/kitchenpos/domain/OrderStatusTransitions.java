@@ -0,0 +1,40 @@
+package kitchenpos.domain;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+public final class OrderStatusTransitions {
+    private static final Map<OrderType, Map<OrderStatus, OrderStatus>> NEXT_STATUSES;
+
+    static {
+        final Map<OrderStatus, OrderStatus> delivery = new EnumMap<>(OrderStatus.class);
+        delivery.put(OrderStatus.WAITING, OrderStatus.ACCEPTED);
+        delivery.put(OrderStatus.ACCEPTED, OrderStatus.SERVED);
+        delivery.put(OrderStatus.SERVED, OrderStatus.DELIVERING);
+        delivery.put(OrderStatus.DELIVERING, OrderStatus.DELIVERED);
+        delivery.put(OrderStatus.DELIVERED, OrderStatus.COMPLETED);
+
+        final Map<OrderStatus, OrderStatus> takeout = new EnumMap<>(OrderStatus.class);
+        takeout.put(OrderStatus.WAITING, OrderStatus.ACCEPTED);
+        takeout.put(OrderStatus.ACCEPTED, OrderStatus.SERVED);
+        takeout.put(OrderStatus.SERVED, OrderStatus.COMPLETED);
+
+        final Map<OrderType, Map<OrderStatus, OrderStatus>> nextStatuses = new EnumMap<>(OrderType.class);
+        nextStatuses.put(OrderType.DELIVERY, Collections.unmodifiableMap(delivery));
+        nextStatuses.put(OrderType.TAKEOUT, Collections.unmodifiableMap(takeout));
+        nextStatuses.put(OrderType.EAT_IN, Collections.unmodifiableMap(takeout));
+        NEXT_STATUSES = Collections.unmodifiableMap(nextStatuses);
+    }
+
+    private OrderStatusTransitions() {
+    }
+
+    public static boolean isAllowed(final OrderType type, final OrderStatus source, final OrderStatus target) {
+        if (Objects.isNull(type) || Objects.isNull(source)) {
+            return false;
+        }
+        return NEXT_STATUSES.get(type).get(source) == target;
+    }
+}
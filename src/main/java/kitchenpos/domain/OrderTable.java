@@ -22,6 +22,9 @@ public class OrderTable {
     @Column(name = "empty", nullable = false)
     private boolean empty;
 
+    @Column(name = "active_order_count", nullable = false, insertable = false, updatable = false)
+    private int activeOrderCount;
+
     public OrderTable() {
     }
 
@@ -56,4 +59,8 @@ public class OrderTable {
     public void setEmpty(final boolean empty) {
         this.empty = empty;
     }
+
+    public int getActiveOrderCount() {
+        return activeOrderCount;
+    }
 }
@@ -1,8 +1,32 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
 public interface OrderTableRepository extends JpaRepository<OrderTable, UUID> {
+    @Query("select t.activeOrderCount from OrderTable t where t.id = :id")
+    int findActiveOrderCountById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("update OrderTable t set t.activeOrderCount = t.activeOrderCount + :count where t.id = :id")
+    int increaseActiveOrderCount(@Param("id") UUID id, @Param("count") int count);
+
+    @Modifying
+    @Query("update OrderTable t set t.activeOrderCount = t.activeOrderCount - 1 where t.id = :id")
+    int decreaseActiveOrderCount(@Param("id") UUID id);
+
+    @Modifying
+    @Query(
+        value = "update order_table t"
+            + " set t.active_order_count = (select count(*) from orders o"
+            + " where o.order_table_id = t.id and o.status <> 'COMPLETED')"
+            + " where t.active_order_count <> (select count(*) from orders o"
+            + " where o.order_table_id = t.id and o.status <> 'COMPLETED')",
+        nativeQuery = true
+    )
+    int reconcileActiveOrderCounts();
 }
@@ -1,10 +1,12 @@
 package kitchenpos.domain;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import java.math.BigDecimal;
+import java.util.Objects;
 import java.util.UUID;
 
 @Table(name = "product")
@@ -18,7 +20,8 @@ public class Product {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    @Convert(converter = MoneyConverter.class)
+    private Money price;
 
     public Product() {
     }
@@ -40,10 +43,14 @@ public class Product {
     }
 
     public BigDecimal getPrice() {
-        return price;
+        return Objects.isNull(price) ? null : price.toBigDecimal();
     }
 
     public void setPrice(final BigDecimal price) {
-        this.price = price;
+        this.price = Objects.isNull(price) ? null : Money.of(price);
+    }
+
+    public Money price() {
+        return price;
     }
 }
@@ -0,0 +1,129 @@
+package kitchenpos.infra;
+
+import java.util.*;
+
+public class AhoCorasickMatcher {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+    private static final int[] NO_LENGTHS = new int[0];
+
+    private final Node root;
+
+    public AhoCorasickMatcher(final Collection<String> words) {
+        final Builder builder = new Builder();
+        for (final String word : words) {
+            builder.add(word);
+        }
+        this.root = builder.build();
+    }
+
+    public boolean containsWord(final String text) {
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            final char ch = Character.toLowerCase(text.charAt(i));
+            Node next = state.child(ch);
+            while (Objects.isNull(next) && state != root) {
+                state = state.fail;
+                next = state.child(ch);
+            }
+            state = Objects.isNull(next) ? root : next;
+            for (final int length : state.lengths) {
+                if (isBoundary(text, i - length) && isBoundary(text, i + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBoundary(final String text, final int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private static final class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_NODES;
+        private int[] lengths = NO_LENGTHS;
+        private Node fail;
+
+        private Node child(final char ch) {
+            final int index = Arrays.binarySearch(keys, ch);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    private static final class Builder {
+        private final MutableNode root = new MutableNode();
+
+        private void add(final String word) {
+            final String normalized = word.trim().toLowerCase(Locale.ROOT);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            MutableNode node = root;
+            for (int i = 0; i < normalized.length(); i++) {
+                node = node.children.computeIfAbsent(normalized.charAt(i), key -> new MutableNode());
+            }
+            node.length = normalized.length();
+        }
+
+        private Node build() {
+            final Map<MutableNode, Node> nodes = new IdentityHashMap<>();
+            final Node builtRoot = freeze(root, nodes);
+            builtRoot.fail = builtRoot;
+            final Deque<MutableNode> queue = new ArrayDeque<>();
+            for (final MutableNode child : root.children.values()) {
+                nodes.get(child).fail = builtRoot;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                final MutableNode parent = queue.poll();
+                final Node builtParent = nodes.get(parent);
+                for (final Map.Entry<Character, MutableNode> entry : parent.children.entrySet()) {
+                    final Node builtChild = nodes.get(entry.getValue());
+                    Node fail = builtParent.fail;
+                    Node next = fail.child(entry.getKey());
+                    while (Objects.isNull(next) && fail != builtRoot) {
+                        fail = fail.fail;
+                        next = fail.child(entry.getKey());
+                    }
+                    builtChild.fail = Objects.isNull(next) || next == builtChild ? builtRoot : next;
+                    builtChild.lengths = merge(builtChild.lengths, builtChild.fail.lengths);
+                    queue.add(entry.getValue());
+                }
+            }
+            return builtRoot;
+        }
+
+        private Node freeze(final MutableNode source, final Map<MutableNode, Node> nodes) {
+            final Node node = new Node();
+            nodes.put(source, node);
+            node.keys = new char[source.children.size()];
+            node.children = new Node[source.children.size()];
+            int index = 0;
+            for (final Map.Entry<Character, MutableNode> entry : source.children.entrySet()) {
+                node.keys[index] = entry.getKey();
+                node.children[index] = freeze(entry.getValue(), nodes);
+                index++;
+            }
+            if (source.length > 0) {
+                node.lengths = new int[]{source.length};
+            }
+            return node;
+        }
+
+        private static int[] merge(final int[] own, final int[] inherited) {
+            if (inherited.length == 0) {
+                return own;
+            }
+            final int[] merged = Arrays.copyOf(own, own.length + inherited.length);
+            System.arraycopy(inherited, 0, merged, own.length, inherited.length);
+            return merged;
+        }
+    }
+
+    private static final class MutableNode {
+        private final SortedMap<Character, MutableNode> children = new TreeMap<>();
+        private int length;
+    }
+}
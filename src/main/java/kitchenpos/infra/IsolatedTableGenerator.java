@@ -0,0 +1,126 @@
+package kitchenpos.infra;
+
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import javax.sql.DataSource;
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Properties;
+
+public class IsolatedTableGenerator extends TableGenerator {
+    public static final String DATA_SOURCE = "kitchenpos.id-generator.data-source";
+
+    private DataSource dataSource;
+    private boolean storeLastUsedValue;
+    private String selectQuery;
+    private String insertQuery;
+    private String updateQuery;
+
+    @Override
+    public void configure(final Type type, final Properties params, final ServiceRegistry serviceRegistry) {
+        super.configure(type, params, serviceRegistry);
+        final ConfigurationService configurationService = serviceRegistry.getService(ConfigurationService.class);
+        dataSource = (DataSource) configurationService.getSettings().get(DATA_SOURCE);
+        storeLastUsedValue = configurationService.getSetting(
+            AvailableSettings.TABLE_GENERATOR_STORE_LAST_USED,
+            StandardConverters.BOOLEAN,
+            true
+        );
+    }
+
+    @Override
+    public void registerExportables(final Database database) {
+        super.registerExportables(database);
+        selectQuery = buildSelectQuery(database.getJdbcEnvironment().getDialect());
+        insertQuery = buildInsertQuery();
+        updateQuery = buildUpdateQuery();
+    }
+
+    @Override
+    public Serializable generate(final SharedSessionContractImplementor session, final Object obj) {
+        if (Objects.isNull(dataSource)) {
+            return super.generate(session, obj);
+        }
+        return getOptimizer().generate(new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                return nextValue();
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return session.getTenantIdentifier();
+            }
+        });
+    }
+
+    private IntegralDataTypeHolder nextValue() {
+        try (final Connection connection = dataSource.getConnection()) {
+            try {
+                final IntegralDataTypeHolder value = reserve(connection);
+                connection.commit();
+                return value;
+            } catch (final SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (final SQLException e) {
+            throw new IdentifierGenerationException("could not reserve ids for " + getSegmentValue(), e);
+        }
+    }
+
+    private IntegralDataTypeHolder reserve(final Connection connection) throws SQLException {
+        IntegralDataTypeHolder value;
+        int rows;
+        do {
+            value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(getIdentifierType().getReturnedClass());
+            try (final PreparedStatement select = connection.prepareStatement(selectQuery)) {
+                select.setString(1, getSegmentValue());
+                try (final ResultSet resultSet = select.executeQuery()) {
+                    if (resultSet.next()) {
+                        value.initialize(resultSet, storeLastUsedValue ? 0L : 1L);
+                    } else {
+                        value.initialize(storeLastUsedValue ? getInitialValue() - 1L : getInitialValue());
+                        insert(connection, value);
+                    }
+                }
+            }
+            final IntegralDataTypeHolder updateValue = value.copy();
+            if (getOptimizer().applyIncrementSizeToSourceValues()) {
+                updateValue.add(getIncrementSize());
+            } else {
+                updateValue.increment();
+            }
+            try (final PreparedStatement update = connection.prepareStatement(updateQuery)) {
+                updateValue.bind(update, 1);
+                value.bind(update, 2);
+                update.setString(3, getSegmentValue());
+                rows = update.executeUpdate();
+            }
+        } while (rows == 0);
+        return storeLastUsedValue ? value.increment() : value;
+    }
+
+    private void insert(final Connection connection, final IntegralDataTypeHolder value) throws SQLException {
+        try (final PreparedStatement insert = connection.prepareStatement(insertQuery)) {
+            insert.setString(1, getSegmentValue());
+            value.bind(insert, 2);
+            insert.executeUpdate();
+        }
+    }
+}
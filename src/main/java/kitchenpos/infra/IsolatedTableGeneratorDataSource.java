@@ -0,0 +1,36 @@
+package kitchenpos.infra;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+
+@Component
+public class IsolatedTableGeneratorDataSource implements HibernatePropertiesCustomizer {
+    private static final int GENERATOR_COUNT = 2;
+
+    private final HikariDataSource dataSource;
+
+    public IsolatedTableGeneratorDataSource(final DataSourceProperties properties) {
+        dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("id-generator");
+        dataSource.setMaximumPoolSize(GENERATOR_COUNT);
+        dataSource.setMinimumIdle(0);
+        dataSource.setAutoCommit(false);
+    }
+
+    @Override
+    public void customize(final Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(IsolatedTableGenerator.DATA_SOURCE, dataSource);
+    }
+
+    @PreDestroy
+    public void close() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,58 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+@ConditionalOnProperty(name = "kitchenpos.profanity.engine", havingValue = "local")
+@Component
+public class LocalPurgomalumClient implements PurgomalumClient {
+    private final AhoCorasickMatcher matcher;
+    private final Timer timer;
+
+    public LocalPurgomalumClient(
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.profanity.words:classpath:profanity/words.txt}") final Resource words
+    ) {
+        this.matcher = new AhoCorasickMatcher(readWords(words));
+        this.timer = Timer.builder("kitchenpos.purgomalum.requests")
+            .tag("engine", "local")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        return timer.record(() -> matcher.containsWord(text));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsProfanityAsync(final String text) {
+        return CompletableFuture.completedFuture(containsProfanity(text));
+    }
+
+    private static List<String> readWords(final Resource words) {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(words.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            return reader.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
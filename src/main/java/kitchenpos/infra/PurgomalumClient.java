@@ -1,25 +1,9 @@
 package kitchenpos.infra;
 
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import java.util.concurrent.CompletableFuture;
 
-import java.net.URI;
+public interface PurgomalumClient {
+    boolean containsProfanity(String text);
 
-@Component
-public class PurgomalumClient {
-    private final RestTemplate restTemplate;
-
-    public PurgomalumClient(final RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder.build();
-    }
-
-    public boolean containsProfanity(final String text) {
-        final URI url = UriComponentsBuilder.fromUriString("https://www.purgomalum.com/service/containsprofanity")
-            .queryParam("text", text)
-            .build()
-            .toUri();
-        return Boolean.parseBoolean(restTemplate.getForObject(url, String.class));
-    }
+    CompletableFuture<Boolean> containsProfanityAsync(String text);
 }
@@ -0,0 +1,16 @@
+package kitchenpos.infra;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.IdGenerator;
+
+import java.util.UUID;
+
+@ConditionalOnProperty(name = "kitchenpos.id-generator", havingValue = "random", matchIfMissing = true)
+@Component
+public class RandomIdGenerator implements IdGenerator {
+    @Override
+    public UUID generateId() {
+        return UUID.randomUUID();
+    }
+}
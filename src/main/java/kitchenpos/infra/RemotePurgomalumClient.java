@@ -0,0 +1,117 @@
+package kitchenpos.infra;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.*;
+
+@ConditionalOnProperty(name = "kitchenpos.profanity.engine", havingValue = "remote", matchIfMissing = true)
+@Component
+public class RemotePurgomalumClient implements PurgomalumClient {
+    private final RestTemplate restTemplate;
+    private final String url;
+    private final AsyncLoadingCache<String, Boolean> cache;
+    private final Timer timer;
+    private final Executor executor;
+
+    @Autowired
+    public RemotePurgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.purgomalum.url:https://www.purgomalum.com}") final String url,
+        @Value("${kitchenpos.purgomalum.connect-timeout:1s}") final Duration connectTimeout,
+        @Value("${kitchenpos.purgomalum.read-timeout:2s}") final Duration readTimeout,
+        @Value("${kitchenpos.purgomalum.cache.maximum-size:10000}") final long cacheMaximumSize,
+        @Value("${kitchenpos.purgomalum.cache.expire-after-write:1h}") final Duration cacheExpireAfterWrite,
+        @Value("${kitchenpos.purgomalum.pool-size:4}") final int poolSize,
+        @Value("${kitchenpos.purgomalum.queue-capacity:100}") final int queueCapacity
+    ) {
+        this(
+            restTemplateBuilder,
+            new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("purgomalum-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+            ),
+            meterRegistry,
+            url,
+            connectTimeout,
+            readTimeout,
+            cacheMaximumSize,
+            cacheExpireAfterWrite
+        );
+    }
+
+    RemotePurgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        final Executor executor,
+        final MeterRegistry meterRegistry,
+        final String url,
+        final Duration connectTimeout,
+        final Duration readTimeout,
+        final long cacheMaximumSize,
+        final Duration cacheExpireAfterWrite
+    ) {
+        this.executor = executor;
+        this.restTemplate = restTemplateBuilder
+            .setConnectTimeout(connectTimeout)
+            .setReadTimeout(readTimeout)
+            .build();
+        this.url = url;
+        this.timer = Timer.builder("kitchenpos.purgomalum.requests")
+            .tag("engine", "remote")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(cacheExpireAfterWrite)
+            .executor(executor)
+            .recordStats()
+            .buildAsync(this::requestContainsProfanity);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "purgomalum");
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        return cache.synchronous().get(text);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsProfanityAsync(final String text) {
+        return cache.get(text);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+
+    private boolean requestContainsProfanity(final String text) {
+        final URI uri = UriComponentsBuilder.fromUriString(url)
+            .path("/service/containsprofanity")
+            .queryParam("text", text)
+            .build()
+            .toUri();
+        return timer.record(() -> Boolean.parseBoolean(restTemplate.getForObject(uri, String.class)));
+    }
+}
@@ -0,0 +1,145 @@
+package kitchenpos.infra;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class SlowQueryLoggingDataSource extends DelegatingDataSource {
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLoggingDataSource.class);
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+
+    public SlowQueryLoggingDataSource(final DataSource targetDataSource, final Duration threshold, final double sampleRate) {
+        super(targetDataSource);
+        if (threshold.isNegative() || sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException();
+        }
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(final Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            final Object result = invoke(proxy, target, method, args);
+            if ("prepareStatement".equals(method.getName())) {
+                final TimedStatement statement = new TimedStatement((PreparedStatement) result, (String) args[0], sampled());
+                return proxy(PreparedStatement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static <T> T proxy(final Class<T> type, final InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SlowQueryLoggingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(final Object proxy, final Object target, final Method method, final Object[] args) throws Throwable {
+        if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class TimedStatement implements InvocationHandler {
+        private final PreparedStatement target;
+        private final String sql;
+        private final boolean sampled;
+        private final List<Object> binds = new ArrayList<>();
+        private final List<List<Object>> batchBinds = new ArrayList<>();
+        private int batchSize;
+
+        TimedStatement(final PreparedStatement target, final String sql, final boolean sampled) {
+            this.target = target;
+            this.sql = sql;
+            this.sampled = sampled;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+            if (name.startsWith("execute")) {
+                final long startedAt = System.nanoTime();
+                try {
+                    return SlowQueryLoggingDataSource.invoke(proxy, target, method, args);
+                } finally {
+                    executed(System.nanoTime() - startedAt);
+                }
+            }
+            if ("addBatch".equals(name)) {
+                batchSize++;
+                if (sampled) {
+                    batchBinds.add(new ArrayList<>(binds));
+                }
+            } else if ("clearBatch".equals(name)) {
+                batchSize = 0;
+                batchBinds.clear();
+            } else if (sampled) {
+                capture(name, args);
+            }
+            return SlowQueryLoggingDataSource.invoke(proxy, target, method, args);
+        }
+
+        private void capture(final String name, final Object[] args) {
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                final int index = (Integer) args[0];
+                while (binds.size() < index) {
+                    binds.add(null);
+                }
+                binds.set(index - 1, "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                binds.clear();
+            }
+        }
+
+        private void executed(final long elapsedNanos) {
+            if (elapsedNanos >= thresholdNanos) {
+                final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+                if (sampled) {
+                    log.warn("slow query took {} ms (batch size {}): {} binds {}",
+                        elapsedMillis, batchSize, sql, batchSize == 0 ? binds : batchBinds);
+                } else {
+                    log.warn("slow query took {} ms (batch size {}): {}", elapsedMillis, batchSize, sql);
+                }
+            }
+            binds.clear();
+            batchBinds.clear();
+            batchSize = 0;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.infra;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@ConditionalOnProperty(name = "kitchenpos.slow-query.enabled", havingValue = "true")
+@Component
+public class SlowQueryLoggingPostProcessor implements BeanPostProcessor {
+    private final Duration threshold;
+    private final double sampleRate;
+
+    public SlowQueryLoggingPostProcessor(
+        @Value("${kitchenpos.slow-query.threshold:200ms}") final Duration threshold,
+        @Value("${kitchenpos.slow-query.sample-rate:1.0}") final double sampleRate
+    ) {
+        this.threshold = threshold;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof SlowQueryLoggingDataSource)) {
+            return new SlowQueryLoggingDataSource((DataSource) bean, threshold, sampleRate);
+        }
+        return bean;
+    }
+}
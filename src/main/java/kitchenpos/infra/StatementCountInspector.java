@@ -0,0 +1,17 @@
+package kitchenpos.infra;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class StatementCountInspector implements StatementInspector {
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(final String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static long count() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,58 @@
+package kitchenpos.infra;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.IdGenerator;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Random;
+import java.util.UUID;
+
+@ConditionalOnProperty(name = "kitchenpos.id-generator", havingValue = "time-ordered")
+@Component
+public class TimeOrderedIdGenerator implements IdGenerator {
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long COUNTER_MASK = 0xFFFL;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final Clock clock;
+    private final Random random;
+    private long lastTimestamp;
+    private long counter;
+
+    public TimeOrderedIdGenerator() {
+        this(Clock.systemUTC(), new SecureRandom());
+    }
+
+    TimeOrderedIdGenerator(final Clock clock, final Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public UUID generateId() {
+        final long timestamp;
+        final long sequence;
+        synchronized (this) {
+            final long now = clock.millis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                counter = random.nextInt(0x800);
+            } else if (++counter > COUNTER_MASK) {
+                lastTimestamp++;
+                counter = 0;
+            }
+            timestamp = lastTimestamp;
+            sequence = counter;
+        }
+        return of(timestamp, sequence, random.nextLong());
+    }
+
+    static UUID of(final long timestamp, final long sequence, final long randomBits) {
+        final long mostSigBits = timestamp << 16 | VERSION | sequence & COUNTER_MASK;
+        final long leastSigBits = VARIANT | randomBits & RANDOM_MASK;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -1,21 +1,46 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.OrderCreationResult;
 import kitchenpos.application.OrderService;
+import kitchenpos.application.OrderStatusEvents;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderCursor;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
 @RequestMapping("/api/orders")
 @RestController
 public class OrderRestController {
+    private static final long EVENT_STREAM_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
     private final OrderService orderService;
+    private final OrderStatusEvents orderStatusEvents;
+    private final ObjectMapper objectMapper;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+        final OrderService orderService,
+        final OrderStatusEvents orderStatusEvents,
+        final ObjectMapper objectMapper
+    ) {
         this.orderService = orderService;
+        this.orderStatusEvents = orderStatusEvents;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -25,6 +50,11 @@ public class OrderRestController {
             .body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<OrderCreationResult>> createAll(@RequestBody final List<Order> requests) {
+        return ResponseEntity.ok(orderService.createAll(requests));
+    }
+
     @PutMapping("/{orderId}/accept")
     public ResponseEntity<Order> accept(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.accept(orderId));
@@ -51,7 +81,59 @@ public class OrderRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Order>> findAll() {
-        return ResponseEntity.ok(orderService.findAll());
+    public ResponseEntity<List<Order>> findAll(
+        @RequestParam(required = false) final OrderStatus status,
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(defaultValue = "20") final int size
+    ) {
+        final List<Order> response = orderService.findAll(status, type, OrderCursor.decode(cursor), size);
+        if (response.size() < size) {
+            return ResponseEntity.ok(response);
+        }
+        final String next = ServletUriComponentsBuilder.fromCurrentRequest()
+            .replaceQueryParam("cursor", OrderCursor.from(response.get(response.size() - 1)).encode())
+            .toUriString();
+        return ResponseEntity.ok()
+            .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+            .body(response);
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> stream(
+        @RequestParam(required = false) final OrderStatus status,
+        @RequestParam(required = false) final OrderType type
+    ) {
+        final StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                orderService.streamAll(status, type, orders -> {
+                    try {
+                        for (final Order order : orders) {
+                            generator.writeObject(order);
+                        }
+                        generator.flush();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final UUID orderTableId,
+        @RequestHeader(name = "Last-Event-ID", required = false) final Long lastEventId
+    ) throws IOException {
+        final OrderStatusEmitter emitter = new OrderStatusEmitter(EVENT_STREAM_TIMEOUT_MILLIS);
+        emitter.bind();
+        emitter.attach(orderStatusEvents.subscribe(type, orderTableId, lastEventId, emitter));
+        return emitter;
     }
 }
@@ -0,0 +1,66 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderStatusEvent;
+import kitchenpos.application.OrderStatusSink;
+import kitchenpos.application.OrderStatusSubscription;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+class OrderStatusEmitter extends SseEmitter implements OrderStatusSink {
+    private static final String EVENT_NAME = "order-status";
+    private static final long RECONNECT_TIME_MILLIS = 3_000L;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicReference<OrderStatusSubscription> subscription = new AtomicReference<>();
+
+    OrderStatusEmitter(final long timeout) {
+        super(timeout);
+    }
+
+    void bind() throws IOException {
+        send(event().reconnectTime(RECONNECT_TIME_MILLIS));
+        onTimeout(this::unsubscribe);
+        onCompletion(() -> {
+            closed.set(true);
+            unsubscribe();
+        });
+        onError(e -> {
+            closed.set(true);
+            unsubscribe();
+        });
+    }
+
+    void attach(final OrderStatusSubscription subscription) {
+        this.subscription.set(subscription);
+        if (closed.get()) {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public void send(final OrderStatusEvent event) throws IOException {
+        send(event()
+            .id(String.valueOf(event.getId()))
+            .name(EVENT_NAME)
+            .data(event.getChange(), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            complete();
+        }
+    }
+
+    private void unsubscribe() {
+        final OrderStatusSubscription subscription = this.subscription.get();
+        if (Objects.nonNull(subscription)) {
+            subscription.cancel();
+        }
+    }
+}
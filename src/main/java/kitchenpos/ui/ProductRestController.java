@@ -1,5 +1,6 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.ProductPriceChangeResult;
 import kitchenpos.application.ProductService;
 import kitchenpos.domain.Product;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +31,11 @@ public class ProductRestController {
         return ResponseEntity.ok(productService.changePrice(productId, request));
     }
 
+    @PutMapping("/prices")
+    public ResponseEntity<ProductPriceChangeResult> changePrices(@RequestBody final List<Product> request) {
+        return ResponseEntity.ok(productService.changePrices(request));
+    }
+
     @GetMapping
     public ResponseEntity<List<Product>> findAll() {
         return ResponseEntity.ok(productService.findAll());
@@ -0,0 +1,54 @@
+package kitchenpos.ui;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.infra.StatementCountInspector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class StatementCountFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public StatementCountFilter(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final long before = StatementCountInspector.count();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // counts only the request thread; statements run later on async or SSE threads are not included
+            summary(request.getMethod(), uri(request)).record(StatementCountInspector.count() - before);
+        }
+    }
+
+    private DistributionSummary summary(final String method, final String uri) {
+        return summaries.computeIfAbsent(method + " " + uri, key -> DistributionSummary.builder("kitchenpos.http.server.statements")
+            .tag("method", method)
+            .tag("uri", uri)
+            .register(meterRegistry));
+    }
+
+    private static String uri(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return Objects.isNull(pattern) ? "UNKNOWN" : pattern.toString();
+    }
+}
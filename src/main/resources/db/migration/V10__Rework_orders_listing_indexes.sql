@@ -0,0 +1,7 @@
+drop index ix_orders_order_date_time_id on orders;
+
+create index ix_orders_order_date_time_desc_id_desc
+    on orders (order_date_time desc, id desc);
+
+create index ix_orders_status_type_order_date_time_id
+    on orders (status, type, order_date_time, id);
@@ -0,0 +1,13 @@
+alter table order_line_item
+    add column price decimal(19, 2);
+alter table orders
+    add column total_price decimal(19, 2);
+alter table orders
+    add column price_missing boolean not null default false;
+
+update orders
+set price_missing = true;
+
+alter table orders
+    add constraint chk_orders_total_price
+        check (price_missing or total_price is not null);
@@ -0,0 +1,4 @@
+alter table menu_product
+    modify seq bigint not null;
+alter table order_line_item
+    modify seq bigint not null;
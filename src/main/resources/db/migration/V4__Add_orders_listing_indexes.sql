@@ -0,0 +1,8 @@
+create index ix_orders_order_date_time_id
+    on orders (order_date_time, id);
+
+create index ix_orders_status_order_date_time_id
+    on orders (status, order_date_time, id);
+
+create index ix_orders_type_order_date_time_id
+    on orders (type, order_date_time, id);
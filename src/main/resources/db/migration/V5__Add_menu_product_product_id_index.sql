@@ -0,0 +1,2 @@
+create index ix_menu_product_product_id_menu_id
+    on menu_product (product_id, menu_id);
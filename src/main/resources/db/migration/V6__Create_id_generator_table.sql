@@ -0,0 +1,10 @@
+create table id_generator
+(
+    sequence_name varchar(255) not null,
+    next_val      bigint,
+    primary key (sequence_name)
+) engine = InnoDB;
+
+insert into id_generator (sequence_name, next_val)
+select 'order_line_item', coalesce(max(seq), 0) + 100
+from order_line_item;
@@ -0,0 +1,3 @@
+insert into id_generator (sequence_name, next_val)
+select 'menu_product', coalesce(max(seq), 0) + 100
+from menu_product;
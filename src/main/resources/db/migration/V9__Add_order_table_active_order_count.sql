@@ -0,0 +1,11 @@
+alter table order_table
+    add column active_order_count integer not null default 0;
+
+create index ix_orders_order_table_id_status
+    on orders (order_table_id, status);
+
+update order_table t
+set t.active_order_count = (select count(*)
+                            from orders o
+                            where o.order_table_id = t.id
+                              and o.status <> 'COMPLETED');
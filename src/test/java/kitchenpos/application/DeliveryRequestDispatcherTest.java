@@ -0,0 +1,174 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.DeliveryRequestStatus;
+import kitchenpos.infra.KitchenridersClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryRequestDispatcherTest {
+
+    @Mock
+    private DeliveryRequestRepository deliveryRequestRepository;
+    @Mock
+    private KitchenridersClient kitchenridersClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeliveryRequestDispatcher deliveryRequestDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deliveryRequestDispatcher = new DeliveryRequestDispatcher(
+            deliveryRequestRepository,
+            kitchenridersClient,
+            meterRegistry,
+            2,
+            3,
+            Duration.ofSeconds(1L),
+            Duration.ofSeconds(3L),
+            Duration.ofMinutes(1L)
+        );
+    }
+
+    @DisplayName("배달 요청 전송 - 대기중인 배달 요청을 라이더에게 전송한다.")
+    @Test
+    void dispatch01() {
+        //given
+        DeliveryRequest 대기중인_배달_요청 = 배달_요청(0);
+        given(deliveryRequestRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            eq(DeliveryRequestStatus.PENDING), any(), any()
+        )).willReturn(Collections.singletonList(대기중인_배달_요청));
+        given(deliveryRequestRepository.claim(any(), anyInt(), any())).willReturn(1);
+
+        //when
+        deliveryRequestDispatcher.dispatch();
+
+        //then
+        verify(kitchenridersClient).requestDelivery(대기중인_배달_요청.getId(), 대기중인_배달_요청.getOrderId(), BigDecimal.valueOf(16_000L), "우리집으로 빨리 와줘");
+        verify(deliveryRequestRepository).save(대기중인_배달_요청);
+        assertThat(대기중인_배달_요청.getStatus()).isEqualTo(DeliveryRequestStatus.SENT);
+        assertThat(대기중인_배달_요청.getAttempts()).isEqualTo(1);
+        assertThat(meterRegistry.get("kitchenpos.kitchenriders.requests").tag("outcome", "success").timer().count())
+            .isEqualTo(1L);
+    }
+
+    @DisplayName("배달 요청 전송 - 한 번에 가져온 요청이 가득 차 있으면 다음 묶음을 이어서 전송한다.")
+    @Test
+    void dispatch02() {
+        //given
+        given(deliveryRequestRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            eq(DeliveryRequestStatus.PENDING), any(), any()
+        )).willReturn(Arrays.asList(배달_요청(0), 배달_요청(0)), Collections.singletonList(배달_요청(0)));
+        given(deliveryRequestRepository.claim(any(), anyInt(), any())).willReturn(1);
+
+        //when
+        deliveryRequestDispatcher.dispatch();
+
+        //then
+        verify(kitchenridersClient, times(3)).requestDelivery(any(), any(), any(), any());
+        verify(deliveryRequestRepository, times(2)).findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            eq(DeliveryRequestStatus.PENDING), any(), any()
+        );
+    }
+
+    @DisplayName("배달 요청 전송 - 전송에 실패하면 대기 시간을 늘려가며 다시 시도한다.")
+    @Test
+    void dispatch03() {
+        //given
+        DeliveryRequest 대기중인_배달_요청 = 배달_요청(1);
+        given(deliveryRequestRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            eq(DeliveryRequestStatus.PENDING), any(), any()
+        )).willReturn(Collections.singletonList(대기중인_배달_요청));
+        given(deliveryRequestRepository.claim(any(), anyInt(), any())).willReturn(1);
+        willThrow(new IllegalStateException("rider api unavailable"))
+            .given(kitchenridersClient).requestDelivery(any(), any(), any(), any());
+        LocalDateTime 전송_시각 = LocalDateTime.now();
+
+        //when
+        deliveryRequestDispatcher.dispatch();
+
+        //then
+        assertThat(대기중인_배달_요청.getStatus()).isEqualTo(DeliveryRequestStatus.PENDING);
+        assertThat(대기중인_배달_요청.getAttempts()).isEqualTo(2);
+        assertThat(대기중인_배달_요청.getNextAttemptAt()).isAfterOrEqualTo(전송_시각.plusSeconds(2L));
+        assertThat(대기중인_배달_요청.getLastError()).isEqualTo("rider api unavailable");
+        assertThat(meterRegistry.get("kitchenpos.kitchenriders.requests").tag("outcome", "failure").timer().count())
+            .isEqualTo(1L);
+        verify(deliveryRequestRepository).save(대기중인_배달_요청);
+    }
+
+    @DisplayName("배달 요청 전송 - 최대 시도 횟수만큼 실패하면 더 이상 전송하지 않는다.")
+    @Test
+    void dispatch04() {
+        //given
+        DeliveryRequest 대기중인_배달_요청 = 배달_요청(2);
+        given(deliveryRequestRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            eq(DeliveryRequestStatus.PENDING), any(), any()
+        )).willReturn(Collections.singletonList(대기중인_배달_요청));
+        given(deliveryRequestRepository.claim(any(), anyInt(), any())).willReturn(1);
+        willThrow(new IllegalStateException())
+            .given(kitchenridersClient).requestDelivery(any(), any(), any(), any());
+
+        //when
+        deliveryRequestDispatcher.dispatch();
+
+        //then
+        assertThat(대기중인_배달_요청.getStatus()).isEqualTo(DeliveryRequestStatus.FAILED);
+        assertThat(대기중인_배달_요청.getAttempts()).isEqualTo(3);
+    }
+
+    @DisplayName("배달 요청 전송 - 다른 곳에서 먼저 가져간 요청은 전송하지 않는다.")
+    @Test
+    void dispatch05() {
+        //given
+        DeliveryRequest 가져간_배달_요청 = 배달_요청(0);
+        given(deliveryRequestRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            eq(DeliveryRequestStatus.PENDING), any(), any()
+        )).willReturn(Collections.singletonList(가져간_배달_요청));
+        given(deliveryRequestRepository.claim(eq(가져간_배달_요청.getId()), eq(0), any())).willReturn(0);
+
+        //when
+        deliveryRequestDispatcher.dispatch();
+
+        //then
+        verify(kitchenridersClient, never()).requestDelivery(any(), any(), any(), any());
+        verify(deliveryRequestRepository, never()).save(any());
+        assertThat(가져간_배달_요청.getAttempts()).isEqualTo(0);
+    }
+
+    private DeliveryRequest 배달_요청(int 시도_횟수) {
+        DeliveryRequest 배달_요청 = new DeliveryRequest();
+        배달_요청.setId(UUID.randomUUID());
+        배달_요청.setOrderId(UUID.randomUUID());
+        배달_요청.setAmount(BigDecimal.valueOf(16_000L));
+        배달_요청.setDeliveryAddress("우리집으로 빨리 와줘");
+        배달_요청.setStatus(DeliveryRequestStatus.PENDING);
+        배달_요청.setAttempts(시도_횟수);
+        배달_요청.setNextAttemptAt(LocalDateTime.now());
+        배달_요청.setCreatedAt(LocalDateTime.now());
+        return 배달_요청;
+    }
+}
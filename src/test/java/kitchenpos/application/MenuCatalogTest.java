@@ -0,0 +1,117 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MenuCatalogTest {
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MenuCatalog menuCatalog;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        menuCatalog = new MenuCatalog(menuRepository, meterRegistry, 100L, Duration.ofMinutes(10L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("메뉴 카탈로그 - 한 번 조회한 메뉴는 저장소를 다시 조회하지 않는다.")
+    @Test
+    void findAllByIdIn01() {
+        //given
+        Menu 저장된_메뉴 = 메뉴(BigDecimal.valueOf(16_000L), true);
+        List<UUID> 조회할_메뉴_아이디들 = Collections.singletonList(저장된_메뉴.getId());
+        given(menuRepository.findAllByIdIn(조회할_메뉴_아이디들)).willReturn(Collections.singletonList(저장된_메뉴));
+
+        //when
+        menuCatalog.findAllByIdIn(조회할_메뉴_아이디들);
+        Map<UUID, CatalogMenu> 조회된_메뉴들 = menuCatalog.findAllByIdIn(조회할_메뉴_아이디들);
+
+        //then
+        assertThat(조회된_메뉴들.get(저장된_메뉴.getId()).getPrice()).isEqualTo(new BigDecimal("16000.00"));
+        verify(menuRepository, times(1)).findAllByIdIn(anyList());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "menuCatalog").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1.0);
+    }
+
+    @DisplayName("메뉴 카탈로그 - 트랜잭션이 끝나면 변경된 메뉴를 카탈로그에서 제거한다.")
+    @Test
+    void evict01() {
+        //given
+        Menu 저장된_메뉴 = 메뉴(BigDecimal.valueOf(16_000L), true);
+        List<UUID> 조회할_메뉴_아이디들 = Collections.singletonList(저장된_메뉴.getId());
+        given(menuRepository.findAllByIdIn(조회할_메뉴_아이디들)).willReturn(Collections.singletonList(저장된_메뉴));
+        menuCatalog.findAllByIdIn(조회할_메뉴_아이디들);
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        menuCatalog.evict(저장된_메뉴.getId());
+        menuCatalog.findAllByIdIn(조회할_메뉴_아이디들);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        menuCatalog.findAllByIdIn(조회할_메뉴_아이디들);
+
+        //then
+        verify(menuRepository, times(2)).findAllByIdIn(anyList());
+    }
+
+    @DisplayName("메뉴 카탈로그 - 조회 중에 메뉴가 변경되면 조회한 메뉴를 카탈로그에 적재하지 않는다.")
+    @Test
+    void evict02() {
+        //given
+        Menu 저장된_메뉴 = 메뉴(BigDecimal.valueOf(16_000L), true);
+        List<UUID> 조회할_메뉴_아이디들 = Collections.singletonList(저장된_메뉴.getId());
+        given(menuRepository.findAllByIdIn(조회할_메뉴_아이디들)).willAnswer(invocation -> {
+            menuCatalog.evict(저장된_메뉴.getId());
+            return Collections.singletonList(저장된_메뉴);
+        });
+
+        //when
+        menuCatalog.findAllByIdIn(조회할_메뉴_아이디들);
+        menuCatalog.findAllByIdIn(조회할_메뉴_아이디들);
+
+        //then
+        verify(menuRepository, times(2)).findAllByIdIn(anyList());
+    }
+
+    private Menu 메뉴(BigDecimal 가격, boolean 노출_여부) {
+        Menu 메뉴 = new Menu();
+        메뉴.setId(UUID.randomUUID());
+        메뉴.setPrice(가격);
+        메뉴.setDisplayed(노출_여부);
+        return 메뉴;
+    }
+}
@@ -2,6 +2,7 @@ package kitchenpos.application;
 
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuGroupRepository;
+import kitchenpos.infra.TimeOrderedIdGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,7 +10,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.IdGenerator;
 
 import java.util.stream.Stream;
 
@@ -23,6 +26,9 @@ class MenuGroupServiceTest {
     @Mock
     private MenuGroupRepository menuGroupRepository;
 
+    @Spy
+    private IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
     @InjectMocks
     private MenuGroupService menuGroupService;
 
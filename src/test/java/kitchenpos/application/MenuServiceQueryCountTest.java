@@ -0,0 +1,179 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.support.StatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest(properties = StatementCounter.PROPERTY)
+@Transactional
+class MenuServiceQueryCountTest {
+
+    @Autowired
+    private MenuService menuService;
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private PurgomalumClient purgomalumClient;
+
+    @DisplayName("메뉴 등록 - 메뉴에 포함할 상품 수와 관계없이 조회 쿼리 수는 일정하다.")
+    @Test
+    void create() {
+        //given
+        given(purgomalumClient.containsProfanityAsync(anyString())).willReturn(CompletableFuture.completedFuture(false));
+        MenuGroup 메뉴_그룹 = 메뉴_그룹_등록();
+        List<Product> 등록된_상품들 = 상품들_등록(20);
+
+        //when
+        long 한_개_상품_메뉴_쿼리_수 = 메뉴_조회_쿼리_수(메뉴_그룹, 등록된_상품들.subList(0, 1));
+        long 스무_개_상품_메뉴_쿼리_수 = 메뉴_조회_쿼리_수(메뉴_그룹, 등록된_상품들);
+
+        //then
+        assertThat(스무_개_상품_메뉴_쿼리_수).isEqualTo(한_개_상품_메뉴_쿼리_수);
+    }
+
+    @DisplayName("메뉴 등록 - 메뉴에 포함할 상품들을 묶어서 저장한다.")
+    @Test
+    void createWithBatchedMenuProducts() {
+        //given
+        given(purgomalumClient.containsProfanityAsync(anyString())).willReturn(CompletableFuture.completedFuture(false));
+        MenuGroup 메뉴_그룹 = 메뉴_그룹_등록();
+        List<Product> 등록된_상품들 = 상품들_등록(20);
+
+        //when
+        메뉴_조회_쿼리_수(메뉴_그룹, 등록된_상품들);
+
+        //then
+        assertThat(StatementCounter.statements())
+            .filteredOn(sql -> sql.toLowerCase().contains("insert into menu_product"))
+            .hasSize(1);
+    }
+
+    @DisplayName("메뉴 등록 - 트랜잭션 밖에서 호출해도 메뉴 그룹과 상품을 다시 조회하지 않는다.")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void createWithoutRequestTransaction() {
+        //given
+        given(purgomalumClient.containsProfanityAsync(anyString())).willReturn(CompletableFuture.completedFuture(false));
+        MenuGroup 메뉴_그룹 = 메뉴_그룹_등록();
+        List<Product> 등록된_상품들 = new ArrayList<>();
+        List<MenuProduct> 등록할_상품들 = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Product 상품 = new Product();
+            상품.setId(UUID.randomUUID());
+            상품.setName("상품 " + i);
+            상품.setPrice(BigDecimal.valueOf(1_500L));
+            등록된_상품들.add(productRepository.save(상품));
+            MenuProduct 등록할_상품 = new MenuProduct();
+            등록할_상품.setProductId(상품.getId());
+            등록할_상품.setQuantity(1L);
+            등록할_상품들.add(등록할_상품);
+        }
+        Menu 등록할_메뉴 = new Menu();
+        등록할_메뉴.setName("맛있는 미트파이 정식");
+        등록할_메뉴.setPrice(BigDecimal.valueOf(1_000L));
+        등록할_메뉴.setMenuGroupId(메뉴_그룹.getId());
+        등록할_메뉴.setDisplayed(true);
+        등록할_메뉴.setMenuProducts(등록할_상품들);
+
+        Menu 등록된_메뉴 = null;
+        try {
+            //when
+            StatementCounter.reset();
+            등록된_메뉴 = menuService.create(등록할_메뉴);
+
+            //then
+            assertThat(StatementCounter.statements())
+                .filteredOn(sql -> sql.toLowerCase().contains("from product"))
+                .hasSize(1);
+            assertThat(StatementCounter.statements())
+                .filteredOn(sql -> sql.toLowerCase().contains("from menu_group"))
+                .hasSize(1);
+        } finally {
+            if (등록된_메뉴 != null) {
+                jdbcTemplate.update("delete from menu_product where menu_id = ?", 바이트(등록된_메뉴.getId()));
+                jdbcTemplate.update("delete from menu where id = ?", 바이트(등록된_메뉴.getId()));
+            }
+            for (Product 등록된_상품 : 등록된_상품들) {
+                productRepository.deleteById(등록된_상품.getId());
+            }
+            menuGroupRepository.deleteById(메뉴_그룹.getId());
+        }
+    }
+
+    private long 메뉴_조회_쿼리_수(MenuGroup 메뉴_그룹, List<Product> 메뉴에_포함할_상품들) {
+        List<MenuProduct> 등록할_상품들 = new ArrayList<>();
+        for (Product 메뉴에_포함할_상품 : 메뉴에_포함할_상품들) {
+            MenuProduct 등록할_상품 = new MenuProduct();
+            등록할_상품.setProductId(메뉴에_포함할_상품.getId());
+            등록할_상품.setQuantity(1L);
+            등록할_상품들.add(등록할_상품);
+        }
+        Menu 등록할_메뉴 = new Menu();
+        등록할_메뉴.setName("맛있는 미트파이 정식");
+        등록할_메뉴.setPrice(BigDecimal.valueOf(1_000L));
+        등록할_메뉴.setMenuGroupId(메뉴_그룹.getId());
+        등록할_메뉴.setDisplayed(true);
+        등록할_메뉴.setMenuProducts(등록할_상품들);
+
+        StatementCounter.reset();
+        menuService.create(등록할_메뉴);
+        entityManager.flush();
+        long 조회_쿼리_수 = StatementCounter.selectCount();
+        entityManager.clear();
+        return 조회_쿼리_수;
+    }
+
+    private MenuGroup 메뉴_그룹_등록() {
+        MenuGroup 메뉴_그룹 = new MenuGroup();
+        메뉴_그룹.setId(UUID.randomUUID());
+        메뉴_그룹.setName("신메뉴");
+        return menuGroupRepository.save(메뉴_그룹);
+    }
+
+    private List<Product> 상품들_등록(int 상품_수) {
+        List<Product> 등록된_상품들 = new ArrayList<>();
+        for (int i = 0; i < 상품_수; i++) {
+            Product 상품 = new Product();
+            상품.setId(UUID.randomUUID());
+            상품.setName("상품 " + i);
+            상품.setPrice(BigDecimal.valueOf(1_500L));
+            등록된_상품들.add(productRepository.save(상품));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return 등록된_상품들;
+    }
+
+    private byte[] 바이트(UUID 아이디) {
+        return ByteBuffer.allocate(16)
+            .putLong(아이디.getMostSignificantBits())
+            .putLong(아이디.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -2,18 +2,25 @@ package kitchenpos.application;
 
 import kitchenpos.domain.*;
 import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.TimeOrderedIdGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.IdGenerator;
 
+import javax.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static java.lang.Boolean.FALSE;
@@ -34,6 +41,15 @@ public class MenuServiceTest {
     private ProductRepository productRepository;
     @Mock
     private PurgomalumClient purgomalumClient;
+    @Mock
+    private MenuCatalog menuCatalog;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private IdGenerator idGenerator = new TimeOrderedIdGenerator();
 
     @InjectMocks
     private MenuService menuService;
@@ -112,10 +128,7 @@ public class MenuServiceTest {
         int 등록할_상품수 = 2;
         given(등록할_상품들.size()).willReturn(등록할_상품수);
         given(등록할_메뉴.getMenuProducts()).willReturn(등록할_상품들);
-        List<Product> 조회된_상품들 = mock(List.class);
-        int 조회된_상품수 = 1;
-        given(조회된_상품들.size()).willReturn(조회된_상품수);
-        given(productRepository.findAllByIdIn(anyList())).willReturn(조회된_상품들);
+        given(productRepository.findAllByIdIn(anyList())).willReturn(Arrays.asList(mock(Product.class)));
 
         //when & then
         assertThatThrownBy(() -> menuService.create(등록할_메뉴))
@@ -139,14 +152,14 @@ public class MenuServiceTest {
         List<MenuProduct> 등록할_상품들 = spy(ArrayList.class);
         MenuProduct 등록할_상품 = mock(MenuProduct.class);
         given(등록할_상품.getQuantity()).willReturn(등록할_상품_품목_수량);
-        given(등록할_상품.getProductId()).willReturn(UUID.randomUUID());
+        UUID 등록할_상품_아이디 = UUID.randomUUID();
+        given(등록할_상품.getProductId()).willReturn(등록할_상품_아이디);
         등록할_상품들.add(등록할_상품);
         given(등록할_메뉴.getMenuProducts()).willReturn(등록할_상품들);
 
-        List<Product> 조회된_상품들 = mock(List.class);
-        int 조회된_상품수 = 1;
-        given(조회된_상품들.size()).willReturn(조회된_상품수);
-        given(productRepository.findAllByIdIn(anyList())).willReturn(조회된_상품들);
+        Product 조회된_상품 = mock(Product.class);
+        given(조회된_상품.getId()).willReturn(등록할_상품_아이디);
+        given(productRepository.findAllByIdIn(anyList())).willReturn(Arrays.asList(조회된_상품));
 
         //when & then
         assertThatThrownBy(() -> menuService.create(등록할_메뉴))
@@ -170,20 +183,16 @@ public class MenuServiceTest {
         List<MenuProduct> 등록할_상품들 = spy(ArrayList.class);
         MenuProduct 등록할_상품 = mock(MenuProduct.class);
         given(등록할_상품.getQuantity()).willReturn(등록할_상품_품목_수량);
-        given(등록할_상품.getProductId()).willReturn(UUID.randomUUID());
+        UUID 등록할_상품_아이디 = UUID.randomUUID();
+        given(등록할_상품.getProductId()).willReturn(등록할_상품_아이디);
         등록할_상품들.add(등록할_상품);
         given(등록할_메뉴.getMenuProducts()).willReturn(등록할_상품들);
 
-        List<Product> 조회된_상품들 = mock(List.class);
-        int 조회된_상품수 = 1;
-        given(조회된_상품들.size()).willReturn(조회된_상품수);
-        given(productRepository.findAllByIdIn(anyList())).willReturn(조회된_상품들);
-
         Product 조회된_상품 = mock(Product.class);
         BigDecimal 조회된_상품_가격 = BigDecimal.valueOf(500L);
-        given(조회된_상품.getPrice()).willReturn(조회된_상품_가격);
-        given(productRepository.findById(any(UUID.class)))
-                .willReturn(Optional.of(조회된_상품));
+        given(조회된_상품.price()).willReturn(Money.of(조회된_상품_가격));
+        given(조회된_상품.getId()).willReturn(등록할_상품_아이디);
+        given(productRepository.findAllByIdIn(anyList())).willReturn(Arrays.asList(조회된_상품));
 
         //when & then
         assertThatThrownBy(() -> menuService.create(등록할_메뉴))
@@ -208,20 +217,16 @@ public class MenuServiceTest {
         List<MenuProduct> 등록할_상품들 = spy(ArrayList.class);
         MenuProduct 등록할_상품 = mock(MenuProduct.class);
         given(등록할_상품.getQuantity()).willReturn(등록할_상품_품목_수량);
-        given(등록할_상품.getProductId()).willReturn(UUID.randomUUID());
+        UUID 등록할_상품_아이디 = UUID.randomUUID();
+        given(등록할_상품.getProductId()).willReturn(등록할_상품_아이디);
         등록할_상품들.add(등록할_상품);
         given(등록할_메뉴.getMenuProducts()).willReturn(등록할_상품들);
 
-        List<Product> 조회된_상품들 = mock(List.class);
-        int 조회된_상품수 = 1;
-        given(조회된_상품들.size()).willReturn(조회된_상품수);
-        given(productRepository.findAllByIdIn(anyList())).willReturn(조회된_상품들);
-
         Product 조회된_상품 = mock(Product.class);
         BigDecimal 조회된_상품_가격 = BigDecimal.valueOf(1500L);
-        given(조회된_상품.getPrice()).willReturn(조회된_상품_가격);
-        given(productRepository.findById(any(UUID.class)))
-                .willReturn(Optional.of(조회된_상품));
+        given(조회된_상품.price()).willReturn(Money.of(조회된_상품_가격));
+        given(조회된_상품.getId()).willReturn(등록할_상품_아이디);
+        given(productRepository.findAllByIdIn(anyList())).willReturn(Arrays.asList(조회된_상품));
 
         given(등록할_메뉴.getName()).willReturn(null);
         //when & then
@@ -245,25 +250,21 @@ public class MenuServiceTest {
         List<MenuProduct> 등록할_상품들 = spy(ArrayList.class);
         MenuProduct 등록할_상품 = mock(MenuProduct.class);
         given(등록할_상품.getQuantity()).willReturn(등록할_상품_품목_수량);
-        given(등록할_상품.getProductId()).willReturn(UUID.randomUUID());
+        UUID 등록할_상품_아이디 = UUID.randomUUID();
+        given(등록할_상품.getProductId()).willReturn(등록할_상품_아이디);
         등록할_상품들.add(등록할_상품);
         given(등록할_메뉴.getMenuProducts()).willReturn(등록할_상품들);
 
-        List<Product> 조회된_상품들 = mock(List.class);
-        int 조회된_상품수 = 1;
-        given(조회된_상품들.size()).willReturn(조회된_상품수);
-        given(productRepository.findAllByIdIn(anyList())).willReturn(조회된_상품들);
-
         Product 조회된_상품 = mock(Product.class);
         BigDecimal 조회된_상품_가격 = BigDecimal.valueOf(1500L);
-        given(조회된_상품.getPrice()).willReturn(조회된_상품_가격);
-        given(productRepository.findById(any(UUID.class)))
-                .willReturn(Optional.of(조회된_상품));
+        given(조회된_상품.price()).willReturn(Money.of(조회된_상품_가격));
+        given(조회된_상품.getId()).willReturn(등록할_상품_아이디);
+        given(productRepository.findAllByIdIn(anyList())).willReturn(Arrays.asList(조회된_상품));
 
         String 등록할_메뉴_이름 = "X나 맛없는 미트파이 정식";
         given(등록할_메뉴.getName()).willReturn(등록할_메뉴_이름);
-        when(purgomalumClient.containsProfanity(등록할_메뉴_이름))
-                .thenReturn(TRUE);
+        when(purgomalumClient.containsProfanityAsync(등록할_메뉴_이름))
+                .thenReturn(CompletableFuture.completedFuture(TRUE));
         //when & then
         assertThatThrownBy(() -> menuService.create(등록할_메뉴))
                 .isInstanceOf(IllegalArgumentException.class);
@@ -286,32 +287,66 @@ public class MenuServiceTest {
         List<MenuProduct> 등록할_상품들 = spy(ArrayList.class);
         MenuProduct 등록할_상품 = mock(MenuProduct.class);
         given(등록할_상품.getQuantity()).willReturn(등록할_상품_품목_수량);
-        given(등록할_상품.getProductId()).willReturn(UUID.randomUUID());
+        UUID 등록할_상품_아이디 = UUID.randomUUID();
+        given(등록할_상품.getProductId()).willReturn(등록할_상품_아이디);
         등록할_상품들.add(등록할_상품);
         given(등록할_메뉴.getMenuProducts()).willReturn(등록할_상품들);
 
-        List<Product> 조회된_상품들 = mock(List.class);
-        int 조회된_상품수 = 1;
-        given(조회된_상품들.size()).willReturn(조회된_상품수);
-        given(productRepository.findAllByIdIn(anyList())).willReturn(조회된_상품들);
-
         Product 조회된_상품 = mock(Product.class);
         BigDecimal 조회된_상품_가격 = BigDecimal.valueOf(1500L);
-        given(조회된_상품.getPrice()).willReturn(조회된_상품_가격);
-        given(productRepository.findById(any(UUID.class)))
-                .willReturn(Optional.of(조회된_상품));
+        given(조회된_상품.price()).willReturn(Money.of(조회된_상품_가격));
+        given(조회된_상품.getId()).willReturn(등록할_상품_아이디);
+        given(productRepository.findAllByIdIn(anyList())).willReturn(Arrays.asList(조회된_상품));
 
 
         String 등록할_메뉴_이름 = "맛있는 미트파이 정식";
         given(등록할_메뉴.getName()).willReturn(등록할_메뉴_이름);
-        when(purgomalumClient.containsProfanity(등록할_메뉴_이름))
-                .thenReturn(FALSE);
+        when(purgomalumClient.containsProfanityAsync(등록할_메뉴_이름))
+                .thenReturn(CompletableFuture.completedFuture(FALSE));
 
         //when & then
         menuService.create(등록할_메뉴);
 
         // then
-        verify(menuRepository).save(any(Menu.class));
+        verify(entityManager).persist(any(Menu.class));
+    }
+
+    @DisplayName("메뉴 등록 - 비속어 검사 결과는 조회 트랜잭션을 끝낸 뒤에 기다린다.")
+    @Test
+    void create09() {
+        //given
+        Menu 등록할_메뉴 = mock(Menu.class);
+        given(등록할_메뉴.getPrice()).willReturn(BigDecimal.valueOf(1000L));
+        given(등록할_메뉴.getMenuGroupId()).willReturn(UUID.randomUUID());
+        given(menuGroupRepository.findById(any(UUID.class)))
+                .willReturn(Optional.of(mock(MenuGroup.class)));
+
+        MenuProduct 등록할_상품 = mock(MenuProduct.class);
+        UUID 등록할_상품_아이디 = UUID.randomUUID();
+        given(등록할_상품.getQuantity()).willReturn(1L);
+        given(등록할_상품.getProductId()).willReturn(등록할_상품_아이디);
+        given(등록할_메뉴.getMenuProducts()).willReturn(Collections.singletonList(등록할_상품));
+
+        Product 조회된_상품 = mock(Product.class);
+        given(조회된_상품.price()).willReturn(Money.of(BigDecimal.valueOf(1500L)));
+        given(조회된_상품.getId()).willReturn(등록할_상품_아이디);
+        given(productRepository.findAllByIdIn(anyList())).willReturn(Arrays.asList(조회된_상품));
+
+        String 등록할_메뉴_이름 = "맛있는 미트파이 정식";
+        given(등록할_메뉴.getName()).willReturn(등록할_메뉴_이름);
+        CompletableFuture<Boolean> 비속어_검사 = mock(CompletableFuture.class);
+        given(비속어_검사.join()).willReturn(FALSE);
+        given(purgomalumClient.containsProfanityAsync(등록할_메뉴_이름)).willReturn(비속어_검사);
+
+        //when
+        menuService.create(등록할_메뉴);
+
+        //then
+        InOrder 순서 = inOrder(productRepository, transactionManager, 비속어_검사, entityManager);
+        순서.verify(productRepository).findAllByIdIn(anyList());
+        순서.verify(transactionManager).commit(any());
+        순서.verify(비속어_검사).join();
+        순서.verify(entityManager).persist(any(Menu.class));
     }
 
     private static Stream<Arguments> provideDisplayFlagForTrueAndFalse() {
@@ -338,29 +373,24 @@ public class MenuServiceTest {
         List<MenuProduct> 등록할_상품들 = spy(ArrayList.class);
         MenuProduct 등록할_상품 = mock(MenuProduct.class);
         given(등록할_상품.getQuantity()).willReturn(등록할_상품_품목_수량);
-        given(등록할_상품.getProductId()).willReturn(UUID.randomUUID());
+        UUID 등록할_상품_아이디 = UUID.randomUUID();
+        given(등록할_상품.getProductId()).willReturn(등록할_상품_아이디);
         등록할_상품들.add(등록할_상품);
         given(등록할_메뉴.getMenuProducts()).willReturn(등록할_상품들);
 
-        List<Product> 조회된_상품들 = mock(List.class);
-        int 조회된_상품수 = 1;
-        given(조회된_상품들.size()).willReturn(조회된_상품수);
-        given(productRepository.findAllByIdIn(anyList())).willReturn(조회된_상품들);
-
         Product 조회된_상품 = mock(Product.class);
         BigDecimal 조회된_상품_가격 = BigDecimal.valueOf(1500L);
-        given(조회된_상품.getPrice()).willReturn(조회된_상품_가격);
-        given(productRepository.findById(any(UUID.class)))
-                .willReturn(Optional.of(조회된_상품));
+        given(조회된_상품.price()).willReturn(Money.of(조회된_상품_가격));
+        given(조회된_상품.getId()).willReturn(등록할_상품_아이디);
+        given(productRepository.findAllByIdIn(anyList())).willReturn(Arrays.asList(조회된_상품));
 
 
         String 등록할_메뉴_이름 = "맛있는 미트파이 정식";
         given(등록할_메뉴.getName()).willReturn(등록할_메뉴_이름);
-        when(purgomalumClient.containsProfanity(등록할_메뉴_이름))
-                .thenReturn(FALSE);
+        when(purgomalumClient.containsProfanityAsync(등록할_메뉴_이름))
+                .thenReturn(CompletableFuture.completedFuture(FALSE));
 
         given(등록할_메뉴.isDisplayed()).willReturn(등록할_노출_여부);
-        when(menuRepository.save(any(Menu.class))).thenAnswer(params -> params.getArgument(0)); // by pass
         //when & then
         Menu 등록된_메뉴 = menuService.create(등록할_메뉴);
 
@@ -399,7 +429,7 @@ public class MenuServiceTest {
         BigDecimal 조회된_메뉴_상품_가격 = BigDecimal.valueOf(1500L);
         long 조회된_메뉴_상품_수량 = 1l;
         Product 조회된_상품 = mock(Product.class);
-        given(조회된_상품.getPrice()).willReturn(조회된_메뉴_상품_가격);
+        given(조회된_상품.price()).willReturn(Money.of(조회된_메뉴_상품_가격));
         given(조회된_메뉴_상품.getQuantity()).willReturn(조회된_메뉴_상품_수량);
         given(조회된_메뉴_상품.getProduct()).willReturn(조회된_상품);
         조회된_메뉴_상품들.add(조회된_메뉴_상품);
@@ -410,8 +440,7 @@ public class MenuServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
-    //@TODO 버그 픽스
-    @DisplayName("메뉴 가격 변경 - 개별 상품 가격과 메뉴 가격을 비교하고 있어 변경 가능한 상태임에도 불구하고 변경되지 않는다.")
+    @DisplayName("메뉴 가격 변경 - 메뉴의 가격이 개별 상품의 가격보다 크더라도 모든 상품의 가격의 합보다 크지 않으면 변경할 수 있다.")
     @Test
     void changePrice02_01() {
         //given
@@ -427,14 +456,14 @@ public class MenuServiceTest {
         MenuProduct 조회된_메뉴_상품01 = mock(MenuProduct.class);
         BigDecimal 조회된_메뉴_상품_가격01 = BigDecimal.valueOf(1500L);
         Product 조회된_상품01 = mock(Product.class);
-        given(조회된_상품01.getPrice()).willReturn(조회된_메뉴_상품_가격01);
+        given(조회된_상품01.price()).willReturn(Money.of(조회된_메뉴_상품_가격01));
         given(조회된_메뉴_상품01.getQuantity()).willReturn(조회된_메뉴_상품_수량);
         given(조회된_메뉴_상품01.getProduct()).willReturn(조회된_상품01);
 
         MenuProduct 조회된_메뉴_상품02 = mock(MenuProduct.class);
         BigDecimal 조회된_메뉴_상품_가격02 = BigDecimal.valueOf(1500L);
         Product 조회된_상품02 = mock(Product.class);
-        given(조회된_상품02.getPrice()).willReturn(조회된_메뉴_상품_가격02);
+        given(조회된_상품02.price()).willReturn(Money.of(조회된_메뉴_상품_가격02));
         given(조회된_메뉴_상품02.getQuantity()).willReturn(조회된_메뉴_상품_수량);
         given(조회된_메뉴_상품02.getProduct()).willReturn(조회된_상품02);
 
@@ -442,10 +471,11 @@ public class MenuServiceTest {
         조회된_메뉴_상품들.add(조회된_메뉴_상품02);
 
         given(menuRepository.findById(변경할_메뉴_아이디)).willReturn(Optional.ofNullable(조회된_메뉴));
-        //when & then
-        assertThatThrownBy(() -> menuService.changePrice(변경할_메뉴_아이디, 변경할_메뉴))
-                .isInstanceOf(IllegalArgumentException.class);
 
+        //when
+        menuService.changePrice(변경할_메뉴_아이디, 변경할_메뉴);
+
+        //then
         verify(조회된_메뉴).setPrice(변경할_메뉴_가격);
     }
 
@@ -464,7 +494,7 @@ public class MenuServiceTest {
         BigDecimal 조회된_메뉴_상품_가격 = BigDecimal.valueOf(1500L);
         long 조회된_메뉴_상품_수량 = 1l;
         Product 조회된_상품 = mock(Product.class);
-        given(조회된_상품.getPrice()).willReturn(조회된_메뉴_상품_가격);
+        given(조회된_상품.price()).willReturn(Money.of(조회된_메뉴_상품_가격));
         given(조회된_메뉴_상품.getQuantity()).willReturn(조회된_메뉴_상품_수량);
         given(조회된_메뉴_상품.getProduct()).willReturn(조회된_상품);
         조회된_메뉴_상품들.add(조회된_메뉴_상품);
@@ -499,14 +529,14 @@ public class MenuServiceTest {
         UUID 노출할_메뉴_아이디 = UUID.randomUUID();
         Menu 조회된_메뉴 = mock(Menu.class);
         BigDecimal 조회된_메뉴_가격 = BigDecimal.valueOf(2000L);
-        given(조회된_메뉴.getPrice()).willReturn(조회된_메뉴_가격);
+        given(조회된_메뉴.price()).willReturn(Money.of(조회된_메뉴_가격));
         List<MenuProduct> 조회된_메뉴_상품들 = spy(ArrayList.class);
         given(조회된_메뉴.getMenuProducts()).willReturn(조회된_메뉴_상품들);
         MenuProduct 조회된_메뉴_상품 = mock(MenuProduct.class);
         BigDecimal 조회된_메뉴_상품_가격 = BigDecimal.valueOf(1500L);
         long 조회된_메뉴_상품_수량 = 1l;
         Product 조회된_상품 = mock(Product.class);
-        given(조회된_상품.getPrice()).willReturn(조회된_메뉴_상품_가격);
+        given(조회된_상품.price()).willReturn(Money.of(조회된_메뉴_상품_가격));
         given(조회된_메뉴_상품.getQuantity()).willReturn(조회된_메뉴_상품_수량);
         given(조회된_메뉴_상품.getProduct()).willReturn(조회된_상품);
         조회된_메뉴_상품들.add(조회된_메뉴_상품);
@@ -516,29 +546,28 @@ public class MenuServiceTest {
                 .isInstanceOf(IllegalStateException.class);
     }
 
-    //@TODO 버그 픽스
-    @DisplayName("메뉴 노출 - 개별 상품 가격과 메뉴 가격을 비교하고 있어 노출 가능한 상태임에도 불구하고 노출되지 않는다.")
+    @DisplayName("메뉴 노출 - 메뉴의 가격이 개별 상품의 가격보다 크더라도 모든 상품의 가격의 합보다 크지 않으면 노출할 수 있다.")
     @Test
     void display01_01() {
         //given
         UUID 노출할_메뉴_아이디 = UUID.randomUUID();
         Menu 조회된_메뉴 = mock(Menu.class);
         BigDecimal 조회된_메뉴_가격 = BigDecimal.valueOf(2000L);
-        given(조회된_메뉴.getPrice()).willReturn(조회된_메뉴_가격);
+        given(조회된_메뉴.price()).willReturn(Money.of(조회된_메뉴_가격));
         List<MenuProduct> 조회된_메뉴_상품들 = spy(ArrayList.class);
         given(조회된_메뉴.getMenuProducts()).willReturn(조회된_메뉴_상품들);
         long 조회된_메뉴_상품_수량 = 1l;
         MenuProduct 조회된_메뉴_상품01 = mock(MenuProduct.class);
         BigDecimal 조회된_메뉴_상품_가격01 = BigDecimal.valueOf(1500L);
         Product 조회된_상품01 = mock(Product.class);
-        given(조회된_상품01.getPrice()).willReturn(조회된_메뉴_상품_가격01);
+        given(조회된_상품01.price()).willReturn(Money.of(조회된_메뉴_상품_가격01));
         given(조회된_메뉴_상품01.getQuantity()).willReturn(조회된_메뉴_상품_수량);
         given(조회된_메뉴_상품01.getProduct()).willReturn(조회된_상품01);
 
         MenuProduct 조회된_메뉴_상품02 = mock(MenuProduct.class);
         BigDecimal 조회된_메뉴_상품_가격02 = BigDecimal.valueOf(1500L);
         Product 조회된_상품02 = mock(Product.class);
-        given(조회된_상품02.getPrice()).willReturn(조회된_메뉴_상품_가격02);
+        given(조회된_상품02.price()).willReturn(Money.of(조회된_메뉴_상품_가격02));
         given(조회된_메뉴_상품02.getQuantity()).willReturn(조회된_메뉴_상품_수량);
         given(조회된_메뉴_상품02.getProduct()).willReturn(조회된_상품02);
 
@@ -548,10 +577,9 @@ public class MenuServiceTest {
         given(menuRepository.findById(노출할_메뉴_아이디)).willReturn(Optional.ofNullable(조회된_메뉴));
 
         //when
-        assertThatThrownBy(() -> menuService.display(노출할_메뉴_아이디))
-                .isInstanceOf(IllegalStateException.class);
+        menuService.display(노출할_메뉴_아이디);
 
-        // then
+        //then
         verify(조회된_메뉴).setDisplayed(true);
     }
 
@@ -563,14 +591,14 @@ public class MenuServiceTest {
         UUID 노출할_메뉴_아이디 = UUID.randomUUID();
         Menu 조회된_메뉴 = mock(Menu.class);
         BigDecimal 조회된_메뉴_가격 = BigDecimal.valueOf(1000L);
-        given(조회된_메뉴.getPrice()).willReturn(조회된_메뉴_가격);
+        given(조회된_메뉴.price()).willReturn(Money.of(조회된_메뉴_가격));
         List<MenuProduct> 조회된_메뉴_상품들 = spy(ArrayList.class);
         given(조회된_메뉴.getMenuProducts()).willReturn(조회된_메뉴_상품들);
         MenuProduct 조회된_메뉴_상품 = mock(MenuProduct.class);
         BigDecimal 조회된_메뉴_상품_가격 = BigDecimal.valueOf(1500L);
         long 조회된_메뉴_상품_수량 = 1l;
         Product 조회된_상품 = mock(Product.class);
-        given(조회된_상품.getPrice()).willReturn(조회된_메뉴_상품_가격);
+        given(조회된_상품.price()).willReturn(Money.of(조회된_메뉴_상품_가격));
         given(조회된_메뉴_상품.getQuantity()).willReturn(조회된_메뉴_상품_수량);
         given(조회된_메뉴_상품.getProduct()).willReturn(조회된_상품);
         조회된_메뉴_상품들.add(조회된_메뉴_상품);
@@ -629,7 +657,7 @@ public class MenuServiceTest {
         // given & when
         menuService.findAll();
         //then
-        verify(menuRepository).findAll();
+        verify(menuRepository).findAllWithMenuProducts();
     }
 
 }
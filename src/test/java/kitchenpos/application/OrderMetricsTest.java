@@ -0,0 +1,140 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusCount;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class OrderMetricsTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private MockClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderMetrics orderMetrics;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MockClock();
+        meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        orderMetrics = new OrderMetrics(orderRepository, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("주문 지표 - 상태 변경에 걸린 시간을 주문 타입과 변경된 상태별로 기록한다.")
+    @Test
+    void transited01() {
+        //given
+        long 시작_시각 = orderMetrics.start();
+        clock.add(Duration.ofMillis(30L));
+
+        //when
+        orderMetrics.transited(OrderType.DELIVERY, OrderStatus.ACCEPTED, 시작_시각);
+
+        //then
+        assertThat(meterRegistry.get("kitchenpos.order.transitions")
+            .tag("type", "DELIVERY")
+            .tag("status", "ACCEPTED")
+            .timer()
+            .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30.0);
+    }
+
+    @DisplayName("주문 지표 - 트랜잭션 안에서 변경하면 커밋한 뒤에 커밋까지 걸린 시간을 기록한다.")
+    @Test
+    void transited02() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+        long 시작_시각 = orderMetrics.start();
+
+        //when
+        orderMetrics.transited(OrderType.EAT_IN, OrderStatus.SERVED, 시작_시각);
+        long 커밋_전_기록_수 = meterRegistry.get("kitchenpos.order.transitions")
+            .tag("type", "EAT_IN")
+            .tag("status", "SERVED")
+            .timer()
+            .count();
+        clock.add(Duration.ofMillis(10L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        //then
+        assertThat(커밋_전_기록_수).isZero();
+        assertThat(meterRegistry.get("kitchenpos.order.transitions")
+            .tag("type", "EAT_IN")
+            .tag("status", "SERVED")
+            .timer()
+            .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(10.0);
+    }
+
+    @DisplayName("주문 지표 - 거절된 상태 변경을 주문 타입과 변경하려던 상태별로 센다.")
+    @Test
+    void rejected() {
+        //when
+        orderMetrics.rejected(OrderType.TAKEOUT, OrderStatus.COMPLETED);
+
+        //then
+        assertThat(meterRegistry.get("kitchenpos.order.transitions.rejected")
+            .tag("type", "TAKEOUT")
+            .tag("status", "COMPLETED")
+            .counter()
+            .count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("주문 지표 - 상태별 주문 수를 저장소에서 다시 읽어온다.")
+    @Test
+    void refreshStatusCounts() {
+        //given
+        given(orderRepository.countGroupByStatus()).willReturn(Arrays.asList(
+            상태별_주문_수(OrderStatus.WAITING, 3L),
+            상태별_주문_수(OrderStatus.COMPLETED, 1_000L)
+        ));
+
+        //when
+        orderMetrics.refreshStatusCounts();
+
+        //then
+        assertThat(meterRegistry.get("kitchenpos.orders").tag("status", "WAITING").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("kitchenpos.orders").tag("status", "COMPLETED").gauge().value()).isEqualTo(1_000.0);
+        assertThat(meterRegistry.get("kitchenpos.orders").tag("status", "SERVED").gauge().value()).isZero();
+    }
+
+    private static OrderStatusCount 상태별_주문_수(OrderStatus 주문_상태, long 주문_수) {
+        return new OrderStatusCount() {
+            @Override
+            public OrderStatus getStatus() {
+                return 주문_상태;
+            }
+
+            @Override
+            public long getCount() {
+                return 주문_수;
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderServiceConcurrencyTest {
+    private static final int 단말기_수 = 16;
+    private static final int 반복_횟수 = 10;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private DeliveryRequestRepository deliveryRequestRepository;
+
+    private ExecutorService 단말기들;
+    private final List<UUID> 등록된_주문_아이디들 = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        단말기들 = Executors.newFixedThreadPool(단말기_수);
+    }
+
+    @AfterEach
+    void tearDown() {
+        단말기들.shutdownNow();
+        deliveryRequestRepository.findAll().stream()
+            .filter(배달_요청 -> 등록된_주문_아이디들.contains(배달_요청.getOrderId()))
+            .forEach(deliveryRequestRepository::delete);
+        등록된_주문_아이디들.forEach(orderRepository::deleteById);
+    }
+
+    @DisplayName("주문 상태 변경 - 여러 단말기에서 동시에 상태를 바꿔도 한 번만 바뀐다.")
+    @Test
+    void transit() throws Exception {
+        for (int i = 0; i < 반복_횟수; i++) {
+            //given
+            UUID 주문_아이디 = 배달_주문_등록();
+
+            //when
+            List<Integer> 성공한_단말기_수들 = new ArrayList<>();
+            성공한_단말기_수들.add(동시에_변경(주문_아이디, orderService::accept));
+            성공한_단말기_수들.add(동시에_변경(주문_아이디, orderService::serve));
+            성공한_단말기_수들.add(동시에_변경(주문_아이디, orderService::startDelivery));
+            성공한_단말기_수들.add(동시에_변경(주문_아이디, orderService::completeDelivery));
+            성공한_단말기_수들.add(동시에_변경(주문_아이디, orderService::complete));
+
+            //then
+            Order 완료된_주문 = orderRepository.findById(주문_아이디).get();
+            assertThat(성공한_단말기_수들).containsOnly(1);
+            assertThat(완료된_주문.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+            assertThat(완료된_주문.getVersion()).isEqualTo(5L);
+            assertThat(deliveryRequestRepository.findAll())
+                .filteredOn(배달_요청 -> 배달_요청.getOrderId().equals(주문_아이디))
+                .hasSize(1);
+        }
+    }
+
+    private int 동시에_변경(UUID 주문_아이디, Function<UUID, Order> 상태_변경) throws Exception {
+        CountDownLatch 출발_신호 = new CountDownLatch(1);
+        List<Future<Boolean>> 결과들 = new ArrayList<>();
+        for (int i = 0; i < 단말기_수; i++) {
+            결과들.add(단말기들.submit(() -> {
+                출발_신호.await();
+                try {
+                    상태_변경.apply(주문_아이디);
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false;
+                }
+            }));
+        }
+        출발_신호.countDown();
+        int 성공한_단말기_수 = 0;
+        for (Future<Boolean> 결과 : 결과들) {
+            if (결과.get(30, TimeUnit.SECONDS)) {
+                성공한_단말기_수++;
+            }
+        }
+        return 성공한_단말기_수;
+    }
+
+    private UUID 배달_주문_등록() {
+        Order 주문 = new Order();
+        주문.setId(UUID.randomUUID());
+        주문.setType(OrderType.DELIVERY);
+        주문.setStatus(OrderStatus.WAITING);
+        주문.setOrderDateTime(LocalDateTime.now());
+        주문.setOrderLineItems(new ArrayList<>());
+        주문.setTotalPrice(BigDecimal.ZERO);
+        주문.setDeliveryAddress("서울시 송파구");
+        UUID 주문_아이디 = orderRepository.save(주문).getId();
+        등록된_주문_아이디들.add(주문_아이디);
+        return 주문_아이디;
+    }
+}
@@ -0,0 +1,145 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+import kitchenpos.support.StatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = StatementCounter.PROPERTY)
+@Transactional
+class OrderServiceQueryCountTest {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("주문 등록(wating) - 주문 항목 수와 관계없이 조회 쿼리 수는 일정하다.")
+    @Test
+    void create() {
+        //given
+        List<Menu> 등록된_메뉴들 = 메뉴들_등록(30);
+
+        //when
+        long 한_개_항목_주문_쿼리_수 = 주문_조회_쿼리_수(등록된_메뉴들.subList(0, 1));
+        long 서른_개_항목_주문_쿼리_수 = 주문_조회_쿼리_수(등록된_메뉴들);
+
+        //then
+        assertThat(서른_개_항목_주문_쿼리_수).isEqualTo(한_개_항목_주문_쿼리_수);
+    }
+
+    @DisplayName("주문 등록(wating) - 메뉴 카탈로그에 적재된 메뉴는 다시 조회하지 않는다.")
+    @Test
+    void createWithCachedMenus() {
+        //given
+        List<Menu> 등록된_메뉴들 = 메뉴들_등록(10);
+        주문_조회_쿼리_수(등록된_메뉴들);
+
+        //when
+        주문_조회_쿼리_수(등록된_메뉴들);
+
+        //then
+        assertThat(StatementCounter.statements())
+            .noneMatch(sql -> sql.toLowerCase().contains("from menu "));
+    }
+
+    @DisplayName("주문 일괄 등록 - 주문과 주문 항목을 묶어서 저장한다.")
+    @Test
+    void createAll() {
+        //given
+        List<Menu> 등록된_메뉴들 = 메뉴들_등록(3);
+        List<Order> 주문_등록_요청들 = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            주문_등록_요청들.add(주문_등록_요청(등록된_메뉴들));
+        }
+
+        //when
+        StatementCounter.reset();
+        orderService.createAll(주문_등록_요청들);
+        entityManager.flush();
+
+        //then
+        assertThat(StatementCounter.statements())
+            .filteredOn(sql -> sql.toLowerCase().contains("insert into order_line_item"))
+            .hasSizeLessThanOrEqualTo(2);
+        assertThat(StatementCounter.statements())
+            .filteredOn(sql -> sql.toLowerCase().contains("insert into orders"))
+            .hasSize(1);
+    }
+
+    private long 주문_조회_쿼리_수(List<Menu> 주문할_메뉴들) {
+        Order 주문_등록_요청 = 주문_등록_요청(주문할_메뉴들);
+
+        StatementCounter.reset();
+        orderService.create(주문_등록_요청);
+        entityManager.flush();
+        long 조회_쿼리_수 = StatementCounter.selectCount();
+        entityManager.clear();
+        return 조회_쿼리_수;
+    }
+
+    private Order 주문_등록_요청(List<Menu> 주문할_메뉴들) {
+        List<OrderLineItem> 주문_등록_요청_메뉴들 = new ArrayList<>();
+        for (Menu 주문할_메뉴 : 주문할_메뉴들) {
+            OrderLineItem 주문_등록_요청_메뉴 = new OrderLineItem();
+            주문_등록_요청_메뉴.setMenuId(주문할_메뉴.getId());
+            주문_등록_요청_메뉴.setPrice(주문할_메뉴.getPrice());
+            주문_등록_요청_메뉴.setQuantity(1L);
+            주문_등록_요청_메뉴들.add(주문_등록_요청_메뉴);
+        }
+        Order 주문_등록_요청 = new Order();
+        주문_등록_요청.setType(OrderType.TAKEOUT);
+        주문_등록_요청.setOrderLineItems(주문_등록_요청_메뉴들);
+        return 주문_등록_요청;
+    }
+
+    private List<Menu> 메뉴들_등록(int 메뉴_수) {
+        List<Menu> 등록된_메뉴들 = new ArrayList<>();
+        for (int i = 0; i < 메뉴_수; i++) {
+            MenuGroup 메뉴_그룹 = new MenuGroup();
+            메뉴_그룹.setId(UUID.randomUUID());
+            메뉴_그룹.setName("메뉴 그룹 " + i);
+            menuGroupRepository.save(메뉴_그룹);
+
+            Product 상품 = new Product();
+            상품.setId(UUID.randomUUID());
+            상품.setName("상품 " + i);
+            상품.setPrice(BigDecimal.valueOf(16_000L));
+            productRepository.save(상품);
+
+            MenuProduct 메뉴_상품 = new MenuProduct();
+            메뉴_상품.setProduct(상품);
+            메뉴_상품.setQuantity(1L);
+
+            Menu 메뉴 = new Menu();
+            메뉴.setId(UUID.randomUUID());
+            메뉴.setName("메뉴 " + i);
+            메뉴.setPrice(BigDecimal.valueOf(16_000L));
+            메뉴.setMenuGroup(메뉴_그룹);
+            메뉴.setDisplayed(true);
+            메뉴.setMenuProducts(new ArrayList<>(Collections.singletonList(메뉴_상품)));
+            등록된_메뉴들.add(menuRepository.save(메뉴));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return 등록된_메뉴들;
+    }
+}
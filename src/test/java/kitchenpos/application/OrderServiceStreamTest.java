@@ -0,0 +1,57 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.infra.DatasetGenerator;
+import kitchenpos.infra.DatasetSize;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class OrderServiceStreamTest {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("주문 스트리밍 - 이미 내보낸 페이지의 주문은 영속성 컨텍스트에 남기지 않는다.")
+    @Test
+    void streamAll() {
+        //given
+        DatasetSize 크기 = new DatasetSize();
+        크기.setMenuGroups(1);
+        크기.setProducts(5);
+        크기.setMenus(5);
+        크기.setOrderTables(5);
+        크기.setOrders(1_200);
+        크기.setUntil(LocalDateTime.of(2000, 1, 1, 0, 0));
+        new DatasetGenerator(jdbcTemplate).generate(크기, 1L);
+
+        //when
+        List<Order> 이전_페이지 = new ArrayList<>();
+        List<Boolean> 이전_페이지가_남아_있는지 = new ArrayList<>();
+        orderService.streamAll(null, null, 페이지 -> {
+            이전_페이지가_남아_있는지.add(이전_페이지.stream().anyMatch(entityManager::contains));
+            이전_페이지.clear();
+            이전_페이지.addAll(페이지);
+        });
+
+        //then
+        assertThat(이전_페이지가_남아_있는지).hasSizeGreaterThan(2)
+            .containsOnly(false);
+    }
+}
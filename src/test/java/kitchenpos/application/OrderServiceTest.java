@@ -1,21 +1,30 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.*;
-import kitchenpos.infra.KitchenridersClient;
+import kitchenpos.infra.TimeOrderedIdGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.util.IdGenerator;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -29,9 +38,20 @@ class OrderServiceTest {
     @Mock
     private MenuRepository menuRepository;
     @Mock
+    private MenuCatalog menuCatalog;
+    @Mock
     private OrderTableRepository orderTableRepository;
     @Mock
-    private KitchenridersClient kitchenridersClient;
+    private DeliveryRequestRepository deliveryRequestRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Spy
+    private IdGenerator idGenerator = new TimeOrderedIdGenerator();
 
     @InjectMocks
     private OrderService orderService;
@@ -73,11 +93,8 @@ class OrderServiceTest {
         when(주문_등록_요청_메뉴들.size()).thenReturn(주문_등록_요청_메뉴_수);
         given(주문_등록_요청.getOrderLineItems()).willReturn(주문_등록_요청_메뉴들);
 
-        List<OrderLineItem> 조회된_메뉴들 = mock(List.class);
-        int 조회된_메뉴_수 = 1;
-        when(조회된_메뉴들.size()).thenReturn(조회된_메뉴_수);
-
-        given(menuRepository.findAllByIdIn(any(List.class))).willReturn(조회된_메뉴들);
+        CatalogMenu 조회된_메뉴 = new CatalogMenu(UUID.randomUUID(), BigDecimal.valueOf(1500L), true);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(Collections.singletonMap(조회된_메뉴.getId(), 조회된_메뉴));
 
         assertThatThrownBy(() -> orderService.create(주문_등록_요청))
                 .isInstanceOf(IllegalArgumentException.class);
@@ -104,10 +121,8 @@ class OrderServiceTest {
         given(주문_등록_요청_메뉴.getQuantity()).willReturn(-1l);
         주문_등록_요청_메뉴들.add(주문_등록_요청_메뉴);
         given(주문_등록_요청.getOrderLineItems()).willReturn(주문_등록_요청_메뉴들);
-        List<OrderLineItem> 조회된_메뉴들 = mock(List.class);
-        int 조회된_메뉴_수 = 1;
-        when(조회된_메뉴들.size()).thenReturn(조회된_메뉴_수);
-        given(menuRepository.findAllByIdIn(any(List.class))).willReturn(조회된_메뉴들);
+        CatalogMenu 조회된_메뉴 = new CatalogMenu(UUID.randomUUID(), BigDecimal.valueOf(1500L), true);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(Collections.singletonMap(조회된_메뉴.getId(), 조회된_메뉴));
 
         //when & then
         assertThatThrownBy(() -> orderService.create(주문_등록_요청))
@@ -126,10 +141,8 @@ class OrderServiceTest {
         given(주문_등록_요청_메뉴.getQuantity()).willReturn(-1L);
         주문_등록_요청_메뉴들.add(주문_등록_요청_메뉴);
         given(주문_등록_요청.getOrderLineItems()).willReturn(주문_등록_요청_메뉴들);
-        List<OrderLineItem> 조회된_메뉴들 = mock(List.class);
-        int 조회된_메뉴_수 = 1;
-        when(조회된_메뉴들.size()).thenReturn(조회된_메뉴_수);
-        given(menuRepository.findAllByIdIn(any(List.class))).willReturn(조회된_메뉴들);
+        CatalogMenu 조회된_메뉴 = new CatalogMenu(UUID.randomUUID(), BigDecimal.valueOf(1500L), true);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(Collections.singletonMap(조회된_메뉴.getId(), 조회된_메뉴));
 
         //when & then
         assertThatThrownBy(() -> orderService.create(주문_등록_요청))
@@ -149,14 +162,8 @@ class OrderServiceTest {
         주문_등록_요청_메뉴들.add(주문_등록_요청_메뉴);
         given(주문_등록_요청.getOrderLineItems()).willReturn(주문_등록_요청_메뉴들);
 
-        List<OrderLineItem> 조회된_메뉴들 = mock(List.class);
-        int 조회된_메뉴_수 = 1;
-        when(조회된_메뉴들.size()).thenReturn(조회된_메뉴_수);
-        given(menuRepository.findAllByIdIn(any(List.class))).willReturn(조회된_메뉴들);
-
-        Menu 조회된_메뉴 = mock(Menu.class);
-        given(조회된_메뉴.isDisplayed()).willReturn(false);
-        given(menuRepository.findById(주문_등록_요청_메뉴_아이디)).willReturn(Optional.of(조회된_메뉴));
+        CatalogMenu 조회된_메뉴 = new CatalogMenu(주문_등록_요청_메뉴_아이디, BigDecimal.valueOf(1500L), false);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(Collections.singletonMap(주문_등록_요청_메뉴_아이디, 조회된_메뉴));
         //when & then
         assertThatThrownBy(() -> orderService.create(주문_등록_요청))
                 .isInstanceOf(IllegalStateException.class);
@@ -177,16 +184,9 @@ class OrderServiceTest {
         주문_등록_요청_메뉴들.add(주문_등록_요청_메뉴);
         given(주문_등록_요청.getOrderLineItems()).willReturn(주문_등록_요청_메뉴들);
 
-        List<OrderLineItem> 조회된_메뉴들 = mock(List.class);
-        int 조회된_메뉴_수 = 1;
-        when(조회된_메뉴들.size()).thenReturn(조회된_메뉴_수);
-        given(menuRepository.findAllByIdIn(any(List.class))).willReturn(조회된_메뉴들);
-
-        Menu 조회된_메뉴 = mock(Menu.class);
-        given(조회된_메뉴.isDisplayed()).willReturn(true);
         BigDecimal 조회된_메뉴_가격 = BigDecimal.valueOf(2000L);
-        given(조회된_메뉴.getPrice()).willReturn(조회된_메뉴_가격);
-        given(menuRepository.findById(주문_등록_요청_메뉴_아이디)).willReturn(Optional.of(조회된_메뉴));
+        CatalogMenu 조회된_메뉴 = new CatalogMenu(주문_등록_요청_메뉴_아이디, 조회된_메뉴_가격, true);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(Collections.singletonMap(주문_등록_요청_메뉴_아이디, 조회된_메뉴));
         //when & then
         assertThatThrownBy(() -> orderService.create(주문_등록_요청))
                 .isInstanceOf(IllegalArgumentException.class);
@@ -216,16 +216,9 @@ class OrderServiceTest {
         주문_등록_요청_메뉴들.add(주문_등록_요청_메뉴);
         given(주문_등록_요청.getOrderLineItems()).willReturn(주문_등록_요청_메뉴들);
 
-        List<OrderLineItem> 조회된_메뉴들 = mock(List.class);
-        int 조회된_메뉴_수 = 1;
-        when(조회된_메뉴들.size()).thenReturn(조회된_메뉴_수);
-        given(menuRepository.findAllByIdIn(any(List.class))).willReturn(조회된_메뉴들);
-
-        Menu 조회된_메뉴 = mock(Menu.class);
-        given(조회된_메뉴.isDisplayed()).willReturn(true);
         BigDecimal 조회된_메뉴_가격 = BigDecimal.valueOf(1500L);
-        given(조회된_메뉴.getPrice()).willReturn(조회된_메뉴_가격);
-        given(menuRepository.findById(주문_등록_요청_메뉴_아이디)).willReturn(Optional.of(조회된_메뉴));
+        CatalogMenu 조회된_메뉴 = new CatalogMenu(주문_등록_요청_메뉴_아이디, 조회된_메뉴_가격, true);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(Collections.singletonMap(주문_등록_요청_메뉴_아이디, 조회된_메뉴));
 
         //when & then
         assertThatThrownBy(() -> orderService.create(주문_등록_요청))
@@ -259,16 +252,9 @@ class OrderServiceTest {
         주문_등록_요청_메뉴들.add(주문_등록_요청_메뉴);
         given(주문_등록_요청.getOrderLineItems()).willReturn(주문_등록_요청_메뉴들);
 
-        List<OrderLineItem> 조회된_메뉴들 = mock(List.class);
-        int 조회된_메뉴_수 = 1;
-        when(조회된_메뉴들.size()).thenReturn(조회된_메뉴_수);
-        given(menuRepository.findAllByIdIn(any(List.class))).willReturn(조회된_메뉴들);
-
-        Menu 조회된_메뉴 = mock(Menu.class);
-        given(조회된_메뉴.isDisplayed()).willReturn(true);
         BigDecimal 조회된_메뉴_가격 = BigDecimal.valueOf(1500L);
-        given(조회된_메뉴.getPrice()).willReturn(조회된_메뉴_가격);
-        given(menuRepository.findById(주문_등록_요청_메뉴_아이디)).willReturn(Optional.of(조회된_메뉴));
+        CatalogMenu 조회된_메뉴 = new CatalogMenu(주문_등록_요청_메뉴_아이디, 조회된_메뉴_가격, true);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(Collections.singletonMap(주문_등록_요청_메뉴_아이디, 조회된_메뉴));
 
         given(orderTableRepository.findById(주문_등록_요청_테이블_아이디)).willReturn(조회된_테이블);
 
@@ -292,22 +278,117 @@ class OrderServiceTest {
         주문_등록_요청_메뉴들.add(주문_등록_요청_메뉴);
         given(주문_등록_요청.getOrderLineItems()).willReturn(주문_등록_요청_메뉴들);
 
-        List<OrderLineItem> 조회된_메뉴들 = mock(List.class);
-        int 조회된_메뉴_수 = 1;
-        when(조회된_메뉴들.size()).thenReturn(조회된_메뉴_수);
-        given(menuRepository.findAllByIdIn(any(List.class))).willReturn(조회된_메뉴들);
-
-        Menu 조회된_메뉴 = mock(Menu.class);
-        given(조회된_메뉴.isDisplayed()).willReturn(true);
         BigDecimal 조회된_메뉴_가격 = BigDecimal.valueOf(1500L);
-        given(조회된_메뉴.getPrice()).willReturn(조회된_메뉴_가격);
-        given(menuRepository.findById(주문_등록_요청_메뉴_아이디)).willReturn(Optional.of(조회된_메뉴));
+        CatalogMenu 조회된_메뉴 = new CatalogMenu(주문_등록_요청_메뉴_아이디, 조회된_메뉴_가격, true);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(Collections.singletonMap(주문_등록_요청_메뉴_아이디, 조회된_메뉴));
         //when
         orderService.create(주문_등록_요청);
         //then
         verify(orderRepository).save(any(Order.class));
     }
 
+    @DisplayName("주문 등록(wating) - 주문 항목별 가격과 주문 총액을 등록할 때 계산해서 저장한다.")
+    @Test
+    void create11() {
+        //given
+        CatalogMenu 치킨_메뉴 = new CatalogMenu(UUID.randomUUID(), BigDecimal.valueOf(16_000L), true);
+        CatalogMenu 콜라_메뉴 = new CatalogMenu(UUID.randomUUID(), BigDecimal.valueOf(1_500L), true);
+        Map<UUID, CatalogMenu> 조회된_메뉴들 = new HashMap<>();
+        조회된_메뉴들.put(치킨_메뉴.getId(), 치킨_메뉴);
+        조회된_메뉴들.put(콜라_메뉴.getId(), 콜라_메뉴);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(조회된_메뉴들);
+        Order 주문_등록_요청 = 포장_주문_등록_요청(치킨_메뉴);
+        OrderLineItem 콜라_주문_요청 = 포장_주문_등록_요청(콜라_메뉴).getOrderLineItems().get(0);
+        콜라_주문_요청.setQuantity(2L);
+        주문_등록_요청.setOrderLineItems(Arrays.asList(주문_등록_요청.getOrderLineItems().get(0), 콜라_주문_요청));
+
+        //when
+        orderService.create(주문_등록_요청);
+
+        //then
+        ArgumentCaptor<Order> 저장된_주문 = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(저장된_주문.capture());
+        assertThat(저장된_주문.getValue().getOrderLineItems()).extracting(OrderLineItem::getPrice)
+                .containsExactly(new BigDecimal("16000.00"), new BigDecimal("1500.00"));
+        assertThat(저장된_주문.getValue().getTotalPrice()).isEqualTo(new BigDecimal("19000.00"));
+    }
+
+
+    @DisplayName("주문 일괄 등록 - 메뉴를 한 번만 조회해서 주문별로 등록 결과를 알려준다.")
+    @Test
+    void createAll01() {
+        //given
+        CatalogMenu 진열된_메뉴 = new CatalogMenu(UUID.randomUUID(), BigDecimal.valueOf(16_000L), true);
+        CatalogMenu 숨겨진_메뉴 = new CatalogMenu(UUID.randomUUID(), BigDecimal.valueOf(16_000L), false);
+        Map<UUID, CatalogMenu> 조회된_메뉴들 = new HashMap<>();
+        조회된_메뉴들.put(진열된_메뉴.getId(), 진열된_메뉴);
+        조회된_메뉴들.put(숨겨진_메뉴.getId(), 숨겨진_메뉴);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(조회된_메뉴들);
+        given(orderTableRepository.findAllById(any())).willReturn(Collections.emptyList());
+        List<Order> 주문_등록_요청들 = Arrays.asList(
+                포장_주문_등록_요청(진열된_메뉴),
+                포장_주문_등록_요청(숨겨진_메뉴),
+                포장_주문_등록_요청(new CatalogMenu(UUID.randomUUID(), BigDecimal.valueOf(16_000L), true))
+        );
+
+        //when
+        List<OrderCreationResult> 등록_결과들 = orderService.createAll(주문_등록_요청들);
+
+        //then
+        assertThat(등록_결과들).extracting(OrderCreationResult::isCreated).containsExactly(true, false, false);
+        assertThat(등록_결과들).extracting(OrderCreationResult::getError)
+                .containsExactly(null, "IllegalStateException", "IllegalArgumentException");
+        verify(menuCatalog, times(1)).findAllByIdIn(any(List.class));
+        ArgumentCaptor<List<Order>> 저장된_주문들 = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(저장된_주문들.capture());
+        assertThat(저장된_주문들.getValue()).extracting(Order::getId)
+                .containsExactly(등록_결과들.get(0).getOrderId());
+    }
+
+    @DisplayName("주문 일괄 등록 - 매장 식사 주문은 착석한 테이블을 한 번에 조회해서 확인한다.")
+    @Test
+    void createAll02() {
+        //given
+        CatalogMenu 진열된_메뉴 = new CatalogMenu(UUID.randomUUID(), BigDecimal.valueOf(16_000L), true);
+        given(menuCatalog.findAllByIdIn(any(List.class))).willReturn(Collections.singletonMap(진열된_메뉴.getId(), 진열된_메뉴));
+        OrderTable 착석한_테이블 = new OrderTable();
+        착석한_테이블.setId(UUID.randomUUID());
+        착석한_테이블.setEmpty(false);
+        given(orderTableRepository.findAllById(any())).willReturn(Collections.singletonList(착석한_테이블));
+        Order 착석한_테이블_주문 = 포장_주문_등록_요청(진열된_메뉴);
+        착석한_테이블_주문.setType(OrderType.EAT_IN);
+        착석한_테이블_주문.setOrderTableId(착석한_테이블.getId());
+        Order 없는_테이블_주문 = 포장_주문_등록_요청(진열된_메뉴);
+        없는_테이블_주문.setType(OrderType.EAT_IN);
+        없는_테이블_주문.setOrderTableId(UUID.randomUUID());
+
+        //when
+        List<OrderCreationResult> 등록_결과들 = orderService.createAll(Arrays.asList(착석한_테이블_주문, 없는_테이블_주문));
+
+        //then
+        assertThat(등록_결과들).extracting(OrderCreationResult::getError)
+                .containsExactly(null, "NoSuchElementException");
+    }
+
+    @DisplayName("주문 일괄 등록 - 한 번에 1개 이상 500개 이하의 주문을 등록할 수 있다.")
+    @Test
+    void createAll03() {
+        assertThatThrownBy(() -> orderService.createAll(Collections.emptyList()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderService.createAll(Collections.nCopies(501, new Order())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Order 포장_주문_등록_요청(CatalogMenu 주문할_메뉴) {
+        OrderLineItem 주문_등록_요청_메뉴 = new OrderLineItem();
+        주문_등록_요청_메뉴.setMenuId(주문할_메뉴.getId());
+        주문_등록_요청_메뉴.setPrice(주문할_메뉴.getPrice());
+        주문_등록_요청_메뉴.setQuantity(1L);
+        Order 주문_등록_요청 = new Order();
+        주문_등록_요청.setType(OrderType.TAKEOUT);
+        주문_등록_요청.setOrderLineItems(Collections.singletonList(주문_등록_요청_메뉴));
+        return 주문_등록_요청;
+    }
 
     private static Stream<OrderStatus> provideOrderStatusExceptForWaiting() {
         return Stream.of(
@@ -344,13 +425,48 @@ class OrderServiceTest {
         given(조회된_주문.getStatus()).willReturn(OrderStatus.WAITING);
         given(조회된_주문.getType()).willReturn(OrderType.DELIVERY);
         given(조회된_주문.getDeliveryAddress()).willReturn("우리집으로 빨리 와줘");
+        given(조회된_주문.getTotalPrice()).willReturn(BigDecimal.valueOf(19_000L));
         given(orderRepository.findById(승인할_주문_아이디)).willReturn(Optional.of(조회된_주문));
 
         //when & then
         orderService.accept(승인할_주문_아이디);
 
         //then
-        verify(kitchenridersClient).requestDelivery(승인할_주문_아이디, BigDecimal.ZERO, "우리집으로 빨리 와줘");
+        ArgumentCaptor<DeliveryRequest> 저장된_배달_요청 = ArgumentCaptor.forClass(DeliveryRequest.class);
+        verify(deliveryRequestRepository).save(저장된_배달_요청.capture());
+        assertThat(저장된_배달_요청.getValue().getOrderId()).isEqualTo(승인할_주문_아이디);
+        assertThat(저장된_배달_요청.getValue().getAmount()).isEqualTo(BigDecimal.valueOf(19_000L));
+        verify(조회된_주문, never()).getOrderLineItems();
+        assertThat(저장된_배달_요청.getValue().getDeliveryAddress()).isEqualTo("우리집으로 빨리 와줘");
+        assertThat(저장된_배달_요청.getValue().getStatus()).isEqualTo(DeliveryRequestStatus.PENDING);
+    }
+
+    @DisplayName("주문 승인(accept) - 가격이 기록되지 않은 기존 배달주문은 현재 메뉴 가격으로 배달을 요청한다.")
+    @Test
+    void accept07() {
+        //given
+        UUID 승인할_주문_아이디 = UUID.randomUUID();
+        Menu 주문한_메뉴 = mock(Menu.class);
+        given(주문한_메뉴.price()).willReturn(Money.of(BigDecimal.valueOf(8_000L)));
+        OrderLineItem 주문_항목 = mock(OrderLineItem.class);
+        given(주문_항목.getMenu()).willReturn(주문한_메뉴);
+        given(주문_항목.getQuantity()).willReturn(2L);
+        Order 조회된_주문 = mock(Order.class);
+        given(조회된_주문.getStatus()).willReturn(OrderStatus.WAITING);
+        given(조회된_주문.getType()).willReturn(OrderType.DELIVERY);
+        given(조회된_주문.isPriceMissing()).willReturn(true);
+        given(조회된_주문.getOrderLineItems()).willReturn(Collections.singletonList(주문_항목));
+        given(조회된_주문.getDeliveryAddress()).willReturn("우리집으로 빨리 와줘");
+        given(orderRepository.findById(승인할_주문_아이디)).willReturn(Optional.of(조회된_주문));
+
+        //when
+        orderService.accept(승인할_주문_아이디);
+
+        //then
+        ArgumentCaptor<DeliveryRequest> 저장된_배달_요청 = ArgumentCaptor.forClass(DeliveryRequest.class);
+        verify(deliveryRequestRepository).save(저장된_배달_요청.capture());
+        assertThat(저장된_배달_요청.getValue().getAmount()).isEqualTo(new BigDecimal("16000.00"));
+        verify(조회된_주문, never()).getTotalPrice();
     }
 
     @DisplayName("주문 승인(accept) - 주문을 승인할 수 있다.")
@@ -368,6 +484,7 @@ class OrderServiceTest {
 
         //then
         verify(조회된_주문).setStatus(OrderStatus.ACCEPTED);
+        verify(orderRepository).saveAndFlush(조회된_주문);
     }
 
 
@@ -383,6 +500,46 @@ class OrderServiceTest {
                 .isInstanceOf(NoSuchElementException.class);
     }
 
+    @DisplayName("주문 승인(accept) - 다른 곳에서 먼저 상태를 바꾼 주문은 승인할 수 없다.")
+    @Test
+    void accept05() {
+        //given
+        UUID 승인할_주문_아이디 = UUID.randomUUID();
+        Order 조회된_주문 = mock(Order.class);
+        given(조회된_주문.getStatus()).willReturn(OrderStatus.WAITING);
+        given(조회된_주문.getType()).willReturn(OrderType.DELIVERY);
+        given(orderRepository.findById(승인할_주문_아이디)).willReturn(Optional.of(조회된_주문));
+        given(orderRepository.saveAndFlush(조회된_주문))
+                .willThrow(new ObjectOptimisticLockingFailureException(Order.class, 승인할_주문_아이디));
+
+        //when & then
+        assertThatThrownBy(() -> orderService.accept(승인할_주문_아이디))
+                .isInstanceOf(IllegalStateException.class);
+        verify(deliveryRequestRepository, never()).save(any());
+    }
+
+    @DisplayName("주문 승인(accept) - 주문 상태가 바뀌었음을 알린다.")
+    @Test
+    void accept06() {
+        //given
+        UUID 승인할_주문_아이디 = UUID.randomUUID();
+        Order 조회된_주문 = mock(Order.class);
+        given(조회된_주문.getId()).willReturn(승인할_주문_아이디);
+        given(조회된_주문.getStatus()).willReturn(OrderStatus.WAITING);
+        given(조회된_주문.getType()).willReturn(OrderType.TAKEOUT);
+        given(orderRepository.findById(승인할_주문_아이디)).willReturn(Optional.of(조회된_주문));
+
+        //when
+        orderService.accept(승인할_주문_아이디);
+
+        //then
+        ArgumentCaptor<OrderStatusChanged> 발행된_이벤트 = ArgumentCaptor.forClass(OrderStatusChanged.class);
+        verify(eventPublisher).publishEvent(발행된_이벤트.capture());
+        assertThat(발행된_이벤트.getValue().getOrderId()).isEqualTo(승인할_주문_아이디);
+        assertThat(발행된_이벤트.getValue().getSource()).isEqualTo(OrderStatus.WAITING);
+        assertThat(발행된_이벤트.getValue().getTarget()).isEqualTo(OrderStatus.ACCEPTED);
+    }
+
     private static Stream<OrderStatus> provideOrderStatusExceptForAccepted() {
         return Stream.of(
                 OrderStatus.WAITING,
@@ -415,6 +572,7 @@ class OrderServiceTest {
         UUID 서빙할_주문_아이디 = UUID.randomUUID();
         Order 조회된_주문 = mock(Order.class);
         given(조회된_주문.getStatus()).willReturn(OrderStatus.ACCEPTED);
+        given(조회된_주문.getType()).willReturn(OrderType.TAKEOUT);
         given(orderRepository.findById(서빙할_주문_아이디)).willReturn(Optional.of(조회된_주문));
 
         //when & then
@@ -422,6 +580,7 @@ class OrderServiceTest {
 
         //then
         verify(조회된_주문).setStatus(OrderStatus.SERVED);
+        verify(orderRepository).saveAndFlush(조회된_주문);
     }
 
     @DisplayName("주문 서빙(accept) - 존재하는 주문만 서빙할 수 있다.")
@@ -500,6 +659,7 @@ class OrderServiceTest {
 
         //then
         verify(조회된_주문).setStatus(OrderStatus.DELIVERING);
+        verify(orderRepository).saveAndFlush(조회된_주문);
     }
 
     @DisplayName("주문 배달(delivering) 시작 - 존재하는 주문만 배달을 시작할 수 있다.")
@@ -547,6 +707,7 @@ class OrderServiceTest {
         UUID 배달_완료할_주문_아이디 = UUID.randomUUID();
         Order 조회된_주문 = mock(Order.class);
         given(조회된_주문.getStatus()).willReturn(OrderStatus.DELIVERING);
+        given(조회된_주문.getType()).willReturn(OrderType.DELIVERY);
         given(orderRepository.findById(배달_완료할_주문_아이디)).willReturn(Optional.of(조회된_주문));
 
         //when
@@ -554,6 +715,7 @@ class OrderServiceTest {
 
         //then
         verify(조회된_주문).setStatus(OrderStatus.DELIVERED);
+        verify(orderRepository).saveAndFlush(조회된_주문);
     }
 
     @DisplayName("배달 완료(accept) - 존재하는 주문만 배달을 완료할 수 있다.")
@@ -605,17 +767,19 @@ class OrderServiceTest {
     void complete03() {
         //given
         UUID 완료할_주문_아이디 = UUID.randomUUID();
+        UUID 조회된_주문_테이블_아이디 = UUID.randomUUID();
         Order 조회된_주문 = mock(Order.class);
         OrderTable 조회된_주문_테이블 = mock(OrderTable.class);
         given(조회된_주문.getType()).willReturn(OrderType.EAT_IN);
         given(조회된_주문.getStatus()).willReturn(OrderStatus.SERVED);
         given(조회된_주문.getOrderTable()).willReturn(조회된_주문_테이블);
         given(orderRepository.findById(완료할_주문_아이디)).willReturn(Optional.of(조회된_주문));
-        given(orderRepository.existsByOrderTableAndStatusNot(조회된_주문_테이블, OrderStatus.COMPLETED))
-                .willReturn(false);
+        given(조회된_주문_테이블.getId()).willReturn(조회된_주문_테이블_아이디);
+        given(orderTableRepository.findActiveOrderCountById(조회된_주문_테이블_아이디)).willReturn(0);
         //when
         orderService.complete(완료할_주문_아이디);
         //then
+        verify(orderTableRepository).decreaseActiveOrderCount(조회된_주문_테이블_아이디);
         verify(조회된_주문_테이블).setEmpty(true);
         verify(조회된_주문_테이블).setNumberOfGuests(0);
     }
@@ -633,6 +797,7 @@ class OrderServiceTest {
         orderService.complete(완료할_주문_아이디);
         //then
         verify(조회된_주문).setStatus(OrderStatus.COMPLETED);
+        verify(orderRepository).saveAndFlush(조회된_주문);
     }
 
     @DisplayName("배달 완료(accept) - 존재하는 주문만 주문을 완료할 수 있다.")
@@ -647,14 +812,45 @@ class OrderServiceTest {
                 .isInstanceOf(NoSuchElementException.class);
     }
 
+    @DisplayName("주문 완료(complete) - 매장식사의 경우 완료되지 않은 주문이 남은 테이블은 정리하지 않는다.")
+    @Test
+    void complete06() {
+        //given
+        UUID 완료할_주문_아이디 = UUID.randomUUID();
+        UUID 조회된_주문_테이블_아이디 = UUID.randomUUID();
+        Order 조회된_주문 = mock(Order.class);
+        OrderTable 조회된_주문_테이블 = mock(OrderTable.class);
+        given(조회된_주문.getType()).willReturn(OrderType.EAT_IN);
+        given(조회된_주문.getStatus()).willReturn(OrderStatus.SERVED);
+        given(조회된_주문.getOrderTable()).willReturn(조회된_주문_테이블);
+        given(orderRepository.findById(완료할_주문_아이디)).willReturn(Optional.of(조회된_주문));
+        given(조회된_주문_테이블.getId()).willReturn(조회된_주문_테이블_아이디);
+        given(orderTableRepository.findActiveOrderCountById(조회된_주문_테이블_아이디)).willReturn(1);
+        //when
+        orderService.complete(완료할_주문_아이디);
+        //then
+        verify(조회된_주문_테이블, never()).setEmpty(anyBoolean());
+        verify(조회된_주문_테이블, never()).setNumberOfGuests(anyInt());
+    }
+
 
-    @DisplayName("주문 조회 - 등록된 모든 주문을 조회할 수 있다.")
+    @DisplayName("주문 조회 - 등록된 주문을 상태와 타입으로 나누어 조회할 수 있다.")
     @Test
     void findAll() {
-        // given & when
-        orderService.findAll();
+        // given
+        OrderCursor 마지막_조회_주문 = new OrderCursor(LocalDateTime.now(), UUID.randomUUID());
+        // when
+        orderService.findAll(OrderStatus.WAITING, OrderType.DELIVERY, 마지막_조회_주문, 20);
         //then
-        verify(orderRepository).findAll();
+        verify(orderRepository).findAllByCursor(OrderStatus.WAITING, OrderType.DELIVERY, 마지막_조회_주문, 20);
+    }
+
+    @DisplayName("주문 조회 - 한 번에 조회할 수 있는 주문 수는 1개 이상 100개 이하이다.")
+    @ValueSource(ints = {0, 101})
+    @ParameterizedTest
+    void findAll01(int 조회할_주문_수) {
+        assertThatThrownBy(() -> orderService.findAll(null, null, null, 조회할_주문_수))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
 }
@@ -0,0 +1,169 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderStatusChanged;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatusEventsTest {
+    private static final int 보관할_이벤트_수 = 5;
+    private static final int 구독자별_버퍼_크기 = 3;
+
+    private OrderStatusEvents orderStatusEvents;
+
+    @BeforeEach
+    void setUp() {
+        orderStatusEvents = new OrderStatusEvents(보관할_이벤트_수, 구독자별_버퍼_크기, Runnable::run);
+    }
+
+    @DisplayName("주문 상태 구독 - 구독한 주문 타입과 테이블의 상태 변경만 받는다.")
+    @Test
+    void subscribe01() {
+        //given
+        UUID 구독할_테이블_아이디 = UUID.randomUUID();
+        RecordingSink 포장_구독자 = new RecordingSink();
+        RecordingSink 테이블_구독자 = new RecordingSink();
+        orderStatusEvents.subscribe(OrderType.TAKEOUT, null, null, 포장_구독자);
+        orderStatusEvents.subscribe(null, 구독할_테이블_아이디, null, 테이블_구독자);
+
+        //when
+        orderStatusEvents.publish(상태_변경(OrderType.TAKEOUT, null));
+        orderStatusEvents.publish(상태_변경(OrderType.DELIVERY, null));
+        orderStatusEvents.publish(상태_변경(OrderType.EAT_IN, 구독할_테이블_아이디));
+        orderStatusEvents.publish(상태_변경(OrderType.EAT_IN, UUID.randomUUID()));
+
+        //then
+        assertThat(포장_구독자.받은_이벤트들).extracting(OrderStatusEvent::getId).containsExactly(1L);
+        assertThat(테이블_구독자.받은_이벤트들).extracting(OrderStatusEvent::getId).containsExactly(3L);
+    }
+
+    @DisplayName("주문 상태 구독 - 마지막으로 받은 이벤트 이후의 상태 변경부터 이어서 받는다.")
+    @Test
+    void subscribe02() {
+        //given
+        for (int i = 0; i < 7; i++) {
+            orderStatusEvents.publish(상태_변경(OrderType.TAKEOUT, null));
+        }
+        RecordingSink 다시_연결한_구독자 = new RecordingSink();
+
+        //when
+        orderStatusEvents.subscribe(null, null, 4L, 다시_연결한_구독자);
+        orderStatusEvents.publish(상태_변경(OrderType.TAKEOUT, null));
+
+        //then
+        assertThat(다시_연결한_구독자.받은_이벤트들).extracting(OrderStatusEvent::getId)
+            .containsExactly(5L, 6L, 7L, 8L);
+    }
+
+    @DisplayName("주문 상태 구독 - 보관 중인 이벤트만 이어서 받을 수 있다.")
+    @Test
+    void subscribe03() {
+        //given
+        for (int i = 0; i < 7; i++) {
+            orderStatusEvents.publish(상태_변경(OrderType.TAKEOUT, null));
+        }
+        RecordingSink 다시_연결한_구독자 = new RecordingSink();
+
+        //when
+        orderStatusEvents.subscribe(null, null, 0L, 다시_연결한_구독자);
+
+        //then
+        assertThat(다시_연결한_구독자.받은_이벤트들).extracting(OrderStatusEvent::getId)
+            .containsExactly(3L, 4L, 5L, 6L, 7L);
+    }
+
+    @DisplayName("주문 상태 구독 - 버퍼를 넘칠 만큼 밀린 구독은 끊는다.")
+    @Test
+    void subscribe04() {
+        //given
+        List<Runnable> 밀린_전송들 = new ArrayList<>();
+        orderStatusEvents = new OrderStatusEvents(보관할_이벤트_수, 구독자별_버퍼_크기, 밀린_전송들::add);
+        RecordingSink 느린_구독자 = new RecordingSink();
+        OrderStatusSubscription 구독 = orderStatusEvents.subscribe(null, null, null, 느린_구독자);
+
+        //when
+        for (int i = 0; i < 구독자별_버퍼_크기 + 1; i++) {
+            orderStatusEvents.publish(상태_변경(OrderType.TAKEOUT, null));
+        }
+
+        //then
+        assertThat(구독.isCancelled()).isTrue();
+        assertThat(느린_구독자.닫혔는지).isTrue();
+        밀린_전송들.forEach(Runnable::run);
+        assertThat(느린_구독자.받은_이벤트들).isEmpty();
+    }
+
+    @DisplayName("주문 상태 구독 - 전송에 실패한 구독은 더 이상 이벤트를 받지 않는다.")
+    @Test
+    void subscribe05() {
+        //given
+        RecordingSink 끊긴_구독자 = new RecordingSink() {
+            @Override
+            public void send(OrderStatusEvent event) {
+                throw new IllegalStateException();
+            }
+        };
+        OrderStatusSubscription 구독 = orderStatusEvents.subscribe(null, null, null, 끊긴_구독자);
+
+        //when
+        orderStatusEvents.publish(상태_변경(OrderType.TAKEOUT, null));
+
+        //then
+        assertThat(구독.isCancelled()).isTrue();
+        assertThat(끊긴_구독자.닫혔는지).isTrue();
+    }
+
+    @DisplayName("주문 상태 구독 - 전송 작업을 더 받을 수 없으면 구독을 끊는다.")
+    @Test
+    void subscribe06() {
+        //given
+        orderStatusEvents = new OrderStatusEvents(보관할_이벤트_수, 구독자별_버퍼_크기, 전송 -> {
+            throw new RejectedExecutionException();
+        });
+        RecordingSink 밀려난_구독자 = new RecordingSink();
+        OrderStatusSubscription 구독 = orderStatusEvents.subscribe(null, null, null, 밀려난_구독자);
+
+        //when
+        orderStatusEvents.publish(상태_변경(OrderType.TAKEOUT, null));
+
+        //then
+        assertThat(구독.isCancelled()).isTrue();
+        assertThat(밀려난_구독자.닫혔는지).isTrue();
+    }
+
+    private OrderStatusChanged 상태_변경(OrderType 주문_타입, UUID 주문_테이블_아이디) {
+        return new OrderStatusChanged(
+            UUID.randomUUID(),
+            주문_타입,
+            주문_테이블_아이디,
+            OrderStatus.WAITING,
+            OrderStatus.ACCEPTED,
+            LocalDateTime.now()
+        );
+    }
+
+    private static class RecordingSink implements OrderStatusSink {
+        private final List<OrderStatusEvent> 받은_이벤트들 = new ArrayList<>();
+        private boolean 닫혔는지;
+
+        @Override
+        public void send(OrderStatusEvent event) {
+            받은_이벤트들.add(event);
+        }
+
+        @Override
+        public void close() {
+            닫혔는지 = true;
+        }
+    }
+}
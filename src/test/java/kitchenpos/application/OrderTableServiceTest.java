@@ -1,9 +1,8 @@
 package kitchenpos.application;
 
-import kitchenpos.domain.OrderRepository;
-import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.infra.TimeOrderedIdGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +10,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.IdGenerator;
 
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -29,8 +30,9 @@ class OrderTableServiceTest {
 
     @Mock
     private OrderTableRepository orderTableRepository;
-    @Mock
-    private OrderRepository orderRepository;
+    @Spy
+    private IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
     @InjectMocks
     private OrderTableService orderTableService;
 
@@ -98,7 +100,7 @@ class OrderTableServiceTest {
         UUID 정리할_테이블_이름 = UUID.randomUUID();
         OrderTable 정리할_테이블 = mock(OrderTable.class);
         given(orderTableRepository.findById(정리할_테이블_이름)).willReturn(Optional.of(정리할_테이블));
-        given(orderRepository.existsByOrderTableAndStatusNot(정리할_테이블, OrderStatus.COMPLETED)).willReturn(true);
+        given(정리할_테이블.getActiveOrderCount()).willReturn(1);
         //when & then
         assertThatThrownBy(() -> orderTableService.clear(정리할_테이블_이름))
                 .isInstanceOf(IllegalStateException.class);
@@ -111,7 +113,7 @@ class OrderTableServiceTest {
         UUID 정리할_테이블_아이디 = UUID.randomUUID();
         OrderTable 정리할_테이블 = mock(OrderTable.class);
         given(orderTableRepository.findById(정리할_테이블_아이디)).willReturn(Optional.of(정리할_테이블));
-        given(orderRepository.existsByOrderTableAndStatusNot(정리할_테이블, OrderStatus.COMPLETED)).willReturn(false);
+        given(정리할_테이블.getActiveOrderCount()).willReturn(0);
         //when
         orderTableService.clear(정리할_테이블_아이디);
         //then
@@ -2,6 +2,7 @@ package kitchenpos.application;
 
 import kitchenpos.domain.*;
 import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.TimeOrderedIdGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,14 +10,18 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.IdGenerator;
 
 import java.math.BigDecimal;
 import java.util.*;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +37,11 @@ class ProductServiceTest {
     private MenuRepository menuRepository;
     @Mock
     private PurgomalumClient purgomalumClient;
+    @Mock
+    private MenuCatalog menuCatalog;
+
+    @Spy
+    private IdGenerator idGenerator = new TimeOrderedIdGenerator();
 
     @InjectMocks
     private ProductService productService;
@@ -136,11 +146,11 @@ class ProductServiceTest {
 
         Menu 계속_공개될_메뉴 = mock(Menu.class);
         given(계속_공개될_메뉴.getMenuProducts()).willReturn(new ArrayList<>(Arrays.asList(저장된_메뉴_상품)));
-        given(계속_공개될_메뉴.getPrice()).willReturn(계속_공개될_메뉴_가격);
+        given(계속_공개될_메뉴.price()).willReturn(Money.of(계속_공개될_메뉴_가격));
 
         Menu 비공개될_메뉴 = mock(Menu.class);
         given(비공개될_메뉴.getMenuProducts()).willReturn(new ArrayList<>(Arrays.asList(저장된_메뉴_상품)));
-        given(비공개될_메뉴.getPrice()).willReturn(비공개될_메뉴_가격);
+        given(비공개될_메뉴.price()).willReturn(Money.of(비공개될_메뉴_가격));
 
         given(menuRepository.findAllByProductId(any(UUID.class)))
                 .willReturn(new ArrayList<>(Arrays.asList(계속_공개될_메뉴, 비공개될_메뉴)));
@@ -154,6 +164,40 @@ class ProductServiceTest {
         verify(비공개될_메뉴).setDisplayed(false);
     }
 
+    @DisplayName("상품 가격 수정 - 메뉴에 포함한 모든 상품 가격의 합이 메뉴 가격 이상이면 메뉴를 계속 진열한다.")
+    @Test
+    void changePrice05() {
+        //given
+        BigDecimal 변경할_상품_가격 = BigDecimal.valueOf(2700L);
+        Product 변경할_상품 = new Product();
+        변경할_상품.setPrice(변경할_상품_가격);
+        Product 저장된_상품 = spy(Product.class);
+        저장된_상품.setPrice(BigDecimal.valueOf(3000L));
+        given(productRepository.findById(any(UUID.class))).willReturn(Optional.of(저장된_상품));
+
+        Product 함께_담긴_상품 = new Product();
+        함께_담긴_상품.setPrice(BigDecimal.valueOf(1000L));
+        MenuProduct 저장된_메뉴_상품 = mock(MenuProduct.class);
+        given(저장된_메뉴_상품.getProduct()).willReturn(저장된_상품);
+        given(저장된_메뉴_상품.getQuantity()).willReturn(1L);
+        MenuProduct 함께_담긴_메뉴_상품 = mock(MenuProduct.class);
+        given(함께_담긴_메뉴_상품.getProduct()).willReturn(함께_담긴_상품);
+        given(함께_담긴_메뉴_상품.getQuantity()).willReturn(1L);
+
+        Menu 계속_공개될_메뉴 = mock(Menu.class);
+        given(계속_공개될_메뉴.getMenuProducts())
+                .willReturn(new ArrayList<>(Arrays.asList(저장된_메뉴_상품, 함께_담긴_메뉴_상품)));
+        given(계속_공개될_메뉴.price()).willReturn(Money.of(BigDecimal.valueOf(3500L)));
+        given(menuRepository.findAllByProductId(any(UUID.class)))
+                .willReturn(new ArrayList<>(Arrays.asList(계속_공개될_메뉴)));
+
+        //when
+        productService.changePrice(UUID.randomUUID(), 변경할_상품);
+
+        //then
+        verify(계속_공개될_메뉴, times(0)).setDisplayed(anyBoolean());
+    }
+
     @DisplayName("상품 가격 수정 - 상품의 가격을 수정할 수 있다.")
     @Test
     void changePrice03() {
@@ -174,7 +218,7 @@ class ProductServiceTest {
 
         Menu 계속_공개될_메뉴 = mock(Menu.class);
         given(계속_공개될_메뉴.getMenuProducts()).willReturn(new ArrayList<>(Arrays.asList(저장된_메뉴_상품)));
-        given(계속_공개될_메뉴.getPrice()).willReturn(계속_공개될_메뉴_가격);
+        given(계속_공개될_메뉴.price()).willReturn(Money.of(계속_공개될_메뉴_가격));
 
         given(menuRepository.findAllByProductId(any(UUID.class)))
                 .willReturn(new ArrayList<>(Arrays.asList(계속_공개될_메뉴)));
@@ -182,7 +226,7 @@ class ProductServiceTest {
         productService.changePrice(UUID.randomUUID(), 변경할_상품);
 
         //then
-        verify(저장된_상품).setPrice(변경할_상품_가격);
+        verify(저장된_상품).setPrice(new BigDecimal("2700.00"));
         verify(계속_공개될_메뉴, times(0)).setDisplayed(anyBoolean());
     }
 
@@ -201,6 +245,97 @@ class ProductServiceTest {
     }
 
 
+    @DisplayName("상품 가격 일괄 수정 - 상품의 가격은 반드시 0보다 큰 값을 가져야 한다.")
+    @MethodSource("providePriceForNullAndNegative")
+    @ParameterizedTest
+    void changePrices01(BigDecimal 변경할_상품_가격) {
+        //given
+        List<Product> 변경할_상품들 = Arrays.asList(가격_변경_요청(UUID.randomUUID(), 변경할_상품_가격));
+
+        //when & then
+        assertThatThrownBy(() -> productService.changePrices(변경할_상품들))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("상품 가격 일괄 수정 - 같은 상품의 가격을 여러 번 변경할 수 없다.")
+    @Test
+    void changePrices02() {
+        //given
+        UUID 변경할_상품_아이디 = UUID.randomUUID();
+        List<Product> 변경할_상품들 = Arrays.asList(
+                가격_변경_요청(변경할_상품_아이디, 정상적인_상품_가격),
+                가격_변경_요청(변경할_상품_아이디, 정상적인_상품_가격)
+        );
+
+        //when & then
+        assertThatThrownBy(() -> productService.changePrices(변경할_상품들))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("상품 가격 일괄 수정 - 가격을 변경하려는 상품은 모두 존재해야 한다.")
+    @Test
+    void changePrices03() {
+        //given
+        List<Product> 변경할_상품들 = Arrays.asList(
+                가격_변경_요청(UUID.randomUUID(), 정상적인_상품_가격),
+                가격_변경_요청(UUID.randomUUID(), 정상적인_상품_가격)
+        );
+        given(productRepository.findAllByIdIn(anyList()))
+                .willReturn(Collections.singletonList(가격_변경_요청(변경할_상품들.get(0).getId(), BigDecimal.TEN)));
+
+        //when & then
+        assertThatThrownBy(() -> productService.changePrices(변경할_상품들))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @DisplayName("상품 가격 일괄 수정 - 상품 가격의 합보다 비싸진 메뉴를 한 번에 숨기고 숨긴 메뉴 수를 알려준다.")
+    @Test
+    void changePrices04() {
+        //given
+        Product 저장된_상품 = 가격_변경_요청(UUID.randomUUID(), BigDecimal.TEN);
+        List<UUID> 숨길_메뉴_아이디들 = Arrays.asList(UUID.randomUUID(), UUID.randomUUID());
+        given(productRepository.findAllByIdIn(anyList())).willReturn(Collections.singletonList(저장된_상품));
+        given(menuRepository.findAllDisplayedIdsPricedAboveProductsByProductIdIn(Collections.singletonList(저장된_상품.getId())))
+                .willReturn(숨길_메뉴_아이디들);
+        given(menuRepository.hideAllByIdIn(숨길_메뉴_아이디들)).willReturn(2);
+
+        //when
+        ProductPriceChangeResult 변경_결과 = productService.changePrices(
+                Collections.singletonList(가격_변경_요청(저장된_상품.getId(), 정상적인_상품_가격))
+        );
+
+        //then
+        assertThat(저장된_상품.getPrice()).isEqualTo(new BigDecimal("1500.00"));
+        assertThat(변경_결과.getHiddenMenuCount()).isEqualTo(2);
+        verify(menuCatalog).evictAll(숨길_메뉴_아이디들);
+    }
+
+    @DisplayName("상품 가격 일괄 수정 - 숨길 메뉴가 없으면 메뉴를 수정하지 않는다.")
+    @Test
+    void changePrices05() {
+        //given
+        Product 저장된_상품 = 가격_변경_요청(UUID.randomUUID(), BigDecimal.TEN);
+        given(productRepository.findAllByIdIn(anyList())).willReturn(Collections.singletonList(저장된_상품));
+        given(menuRepository.findAllDisplayedIdsPricedAboveProductsByProductIdIn(anyList()))
+                .willReturn(Collections.emptyList());
+
+        //when
+        ProductPriceChangeResult 변경_결과 = productService.changePrices(
+                Collections.singletonList(가격_변경_요청(저장된_상품.getId(), 정상적인_상품_가격))
+        );
+
+        //then
+        assertThat(변경_결과.getHiddenMenuCount()).isZero();
+        verify(menuRepository, never()).hideAllByIdIn(anyList());
+    }
+
+    private Product 가격_변경_요청(UUID 상품_아이디, BigDecimal 상품_가격) {
+        Product 상품 = new Product();
+        상품.setId(상품_아이디);
+        상품.setPrice(상품_가격);
+        return 상품;
+    }
+
     @DisplayName("상품 조회 - 등록된 모든 상품을 조회할 수 있다.")
     @Test
     void findAll() {
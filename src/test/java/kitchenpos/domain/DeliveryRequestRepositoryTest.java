@@ -0,0 +1,74 @@
+package kitchenpos.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class DeliveryRequestRepositoryTest {
+
+    @Autowired
+    private DeliveryRequestRepository deliveryRequestRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("배달 요청 선점 - 같은 시도 횟수로는 한 곳만 선점하고, 선점한 동안에는 다시 조회되지 않는다.")
+    @Test
+    void claim01() {
+        //given
+        LocalDateTime 현재_시각 = LocalDateTime.now();
+        DeliveryRequest 배달_요청 = 배달_요청_등록(현재_시각);
+
+        //when
+        int 먼저_선점한_수 = deliveryRequestRepository.claim(배달_요청.getId(), 0, 현재_시각.plusMinutes(1L));
+        int 나중에_선점한_수 = deliveryRequestRepository.claim(배달_요청.getId(), 0, 현재_시각.plusMinutes(1L));
+        entityManager.clear();
+
+        //then
+        assertThat(먼저_선점한_수).isEqualTo(1);
+        assertThat(나중에_선점한_수).isZero();
+        assertThat(deliveryRequestRepository.findById(배달_요청.getId()).get().getAttempts()).isEqualTo(1);
+        assertThat(deliveryRequestRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            DeliveryRequestStatus.PENDING, 현재_시각, PageRequest.of(0, 100)
+        )).extracting(DeliveryRequest::getId).doesNotContain(배달_요청.getId());
+    }
+
+    private DeliveryRequest 배달_요청_등록(LocalDateTime 현재_시각) {
+        Order 주문 = new Order();
+        주문.setId(UUID.randomUUID());
+        주문.setOrderDateTime(현재_시각);
+        주문.setStatus(OrderStatus.ACCEPTED);
+        주문.setType(OrderType.DELIVERY);
+        주문.setOrderLineItems(new ArrayList<>());
+        주문.setTotalPrice(BigDecimal.valueOf(16_000L));
+        주문.setDeliveryAddress("우리집으로 빨리 와줘");
+        orderRepository.save(주문);
+
+        DeliveryRequest 배달_요청 = new DeliveryRequest();
+        배달_요청.setId(UUID.randomUUID());
+        배달_요청.setOrderId(주문.getId());
+        배달_요청.setAmount(BigDecimal.valueOf(16_000L));
+        배달_요청.setDeliveryAddress("우리집으로 빨리 와줘");
+        배달_요청.setStatus(DeliveryRequestStatus.PENDING);
+        배달_요청.setAttempts(0);
+        배달_요청.setNextAttemptAt(현재_시각);
+        배달_요청.setCreatedAt(현재_시각);
+        deliveryRequestRepository.save(배달_요청);
+        entityManager.flush();
+        return 배달_요청;
+    }
+}
@@ -0,0 +1,116 @@
+package kitchenpos.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class MenuRepositoryTest {
+
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("상품이 포함된 메뉴 조회 - 상품을 포함한 메뉴만 한 번씩 조회한다.")
+    @Test
+    void findAllByProductId01() {
+        //given
+        MenuGroup 메뉴_그룹 = 메뉴_그룹_등록();
+        Product 가격을_변경할_상품 = 상품_등록();
+        Product 다른_상품 = 상품_등록();
+        Menu 상품을_포함한_메뉴 = 메뉴_등록(메뉴_그룹, 가격을_변경할_상품, 다른_상품);
+        Menu 상품을_두_번_포함한_메뉴 = 메뉴_등록(메뉴_그룹, 가격을_변경할_상품, 가격을_변경할_상품);
+        메뉴_등록(메뉴_그룹, 다른_상품);
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        List<Menu> 조회된_메뉴들 = menuRepository.findAllByProductId(가격을_변경할_상품.getId());
+
+        //then
+        assertThat(조회된_메뉴들).extracting(Menu::getId)
+            .containsExactlyInAnyOrder(상품을_포함한_메뉴.getId(), 상품을_두_번_포함한_메뉴.getId());
+        assertThat(조회된_메뉴들).allSatisfy(메뉴 -> assertThat(메뉴.getMenuProducts()).hasSize(2));
+    }
+
+    @DisplayName("숨길 메뉴 조회 - 상품 가격의 합보다 비싼 진열된 메뉴만 조회하고 한 번에 숨긴다.")
+    @Test
+    void hideAllByIdIn01() {
+        //given
+        MenuGroup 메뉴_그룹 = 메뉴_그룹_등록();
+        Product 가격을_변경할_상품 = 상품_등록();
+        Product 다른_상품 = 상품_등록();
+        Menu 숨겨질_메뉴 = 메뉴_등록(메뉴_그룹, BigDecimal.valueOf(30_000L), 가격을_변경할_상품, 다른_상품);
+        Menu 계속_진열될_메뉴 = 메뉴_등록(메뉴_그룹, BigDecimal.valueOf(20_000L), 가격을_변경할_상품, 다른_상품);
+        메뉴_등록(메뉴_그룹, BigDecimal.valueOf(30_000L), 다른_상품);
+        가격을_변경할_상품.setPrice(BigDecimal.valueOf(10_000L));
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        List<UUID> 숨길_메뉴_아이디들 = menuRepository.findAllDisplayedIdsPricedAboveProductsByProductIdIn(
+            Arrays.asList(가격을_변경할_상품.getId())
+        );
+        int 숨긴_메뉴_수 = menuRepository.hideAllByIdIn(숨길_메뉴_아이디들);
+
+        //then
+        assertThat(숨길_메뉴_아이디들).containsExactly(숨겨질_메뉴.getId());
+        assertThat(숨긴_메뉴_수).isEqualTo(1);
+        entityManager.clear();
+        assertThat(menuRepository.findById(숨겨질_메뉴.getId())).get().extracting(Menu::isDisplayed).isEqualTo(false);
+        assertThat(menuRepository.findById(계속_진열될_메뉴.getId())).get().extracting(Menu::isDisplayed).isEqualTo(true);
+    }
+
+    private MenuGroup 메뉴_그룹_등록() {
+        MenuGroup 메뉴_그룹 = new MenuGroup();
+        메뉴_그룹.setId(UUID.randomUUID());
+        메뉴_그룹.setName("신메뉴");
+        entityManager.persist(메뉴_그룹);
+        return 메뉴_그룹;
+    }
+
+    private Product 상품_등록() {
+        Product 상품 = new Product();
+        상품.setId(UUID.randomUUID());
+        상품.setName("후라이드");
+        상품.setPrice(BigDecimal.valueOf(16_000L));
+        entityManager.persist(상품);
+        return 상품;
+    }
+
+    private Menu 메뉴_등록(MenuGroup 메뉴_그룹, Product... 상품들) {
+        return 메뉴_등록(메뉴_그룹, BigDecimal.valueOf(16_000L), 상품들);
+    }
+
+    private Menu 메뉴_등록(MenuGroup 메뉴_그룹, BigDecimal 메뉴_가격, Product... 상품들) {
+        Menu 메뉴 = new Menu();
+        메뉴.setId(UUID.randomUUID());
+        메뉴.setName("후라이드 세트");
+        메뉴.setPrice(메뉴_가격);
+        메뉴.setMenuGroup(메뉴_그룹);
+        메뉴.setDisplayed(true);
+        메뉴.setMenuProducts(Arrays.stream(상품들)
+            .map(상품 -> {
+                MenuProduct 메뉴_상품 = new MenuProduct();
+                메뉴_상품.setProduct(상품);
+                메뉴_상품.setQuantity(1L);
+                return 메뉴_상품;
+            })
+            .collect(Collectors.toList()));
+        entityManager.persist(메뉴);
+        return 메뉴;
+    }
+}
@@ -0,0 +1,99 @@
+package kitchenpos.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @DisplayName("금액 - 소수점 둘째 자리까지의 금액을 최소 단위로 보관한다.")
+    @Test
+    void of01() {
+        //when
+        Money 금액 = Money.of(new BigDecimal("16000.130"));
+
+        //then
+        assertThat(금액.getMinorUnits()).isEqualTo(1_600_013L);
+        assertThat(금액.toBigDecimal()).isEqualTo(new BigDecimal("16000.13"));
+    }
+
+    @DisplayName("금액 - 최소 단위로 담을 수 없는 금액은 만들 수 없다.")
+    @Test
+    void of02() {
+        assertThatThrownBy(() -> Money.of(BigDecimal.valueOf(Long.MAX_VALUE)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("금액 - 소수점 셋째 자리 이하의 금액은 반올림하지 않고 거부한다.")
+    @Test
+    void of03() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1500.004")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("금액 - 원 단위로 나누어 떨어지는 금액도 decimal 컬럼과 같이 소수점 둘째 자리까지 돌려준다.")
+    @Test
+    void toBigDecimal() {
+        assertThat(Money.of(BigDecimal.valueOf(16_000L)).toBigDecimal()).isEqualTo(new BigDecimal("16000.00"));
+    }
+
+    @DisplayName("금액 합계 - 가격과 수량을 곱한 금액을 모두 더한다.")
+    @Test
+    void sum01() {
+        //given
+        List<MenuProduct> 메뉴_상품들 = Arrays.asList(
+            메뉴_상품(BigDecimal.valueOf(16_000L), 2L),
+            메뉴_상품(new BigDecimal("1500.50"), 3L)
+        );
+
+        //when
+        Money 합계 = Money.sum(메뉴_상품들, 메뉴_상품 -> 메뉴_상품.getProduct().price(), MenuProduct::getQuantity);
+
+        //then
+        assertThat(합계).isEqualTo(Money.of(new BigDecimal("36501.50")));
+    }
+
+    @DisplayName("금액 합계 - 합계가 넘치면 예외가 발생한다.")
+    @Test
+    void sum02() {
+        //given
+        List<MenuProduct> 메뉴_상품들 = Arrays.asList(
+            메뉴_상품(BigDecimal.valueOf(16_000L), Long.MAX_VALUE / 1_000_000L)
+        );
+
+        //when & then
+        assertThatThrownBy(() -> Money.sum(메뉴_상품들, 메뉴_상품 -> 메뉴_상품.getProduct().price(), MenuProduct::getQuantity))
+            .isInstanceOf(ArithmeticException.class);
+    }
+
+    @DisplayName("금액 변환 - 금액을 decimal 컬럼 값과 주고받는다.")
+    @Test
+    void convert() {
+        //given
+        MoneyConverter 변환기 = new MoneyConverter();
+        Money 금액 = Money.of(new BigDecimal("1500.50"));
+
+        //when
+        BigDecimal 컬럼_값 = 변환기.convertToDatabaseColumn(금액);
+
+        //then
+        assertThat(컬럼_값).isEqualTo(new BigDecimal("1500.50"));
+        assertThat(변환기.convertToEntityAttribute(컬럼_값)).isEqualTo(금액);
+        assertThat(변환기.convertToDatabaseColumn(null)).isNull();
+    }
+
+    private static MenuProduct 메뉴_상품(final BigDecimal 가격, final long 수량) {
+        Product 상품 = new Product();
+        상품.setPrice(가격);
+        MenuProduct 메뉴_상품 = new MenuProduct();
+        메뉴_상품.setProduct(상품);
+        메뉴_상품.setQuantity(수량);
+        return 메뉴_상품;
+    }
+}
@@ -0,0 +1,120 @@
+package kitchenpos.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class OrderRepositoryTest {
+    private static final LocalDateTime 주문_일시 = LocalDateTime.of(2999, 1, 1, 12, 0);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private List<Order> 등록된_주문들;
+
+    @BeforeEach
+    void setUp() {
+        등록된_주문들 = new ArrayList<>();
+        등록된_주문들.add(주문_등록(주문_일시.plusMinutes(3), OrderStatus.WAITING, OrderType.DELIVERY));
+        등록된_주문들.add(주문_등록(주문_일시.plusMinutes(2), OrderStatus.ACCEPTED, OrderType.DELIVERY));
+        등록된_주문들.add(주문_등록(주문_일시.plusMinutes(1), OrderStatus.WAITING, OrderType.TAKEOUT));
+        등록된_주문들.add(주문_등록(주문_일시.plusMinutes(1), OrderStatus.WAITING, OrderType.DELIVERY));
+    }
+
+    @DisplayName("주문 조회 - 마지막으로 조회한 주문 이후의 주문을 최근 주문 일시 순으로 조회한다.")
+    @Test
+    void findAllByCursor01() {
+        //when
+        List<Order> 첫_페이지 = orderRepository.findAllByCursor(null, null, null, 2);
+        List<Order> 다음_페이지 = orderRepository.findAllByCursor(null, null, OrderCursor.from(첫_페이지.get(1)), 2);
+
+        //then
+        assertThat(첫_페이지).extracting(Order::getOrderDateTime)
+            .containsExactly(주문_일시.plusMinutes(3), 주문_일시.plusMinutes(2));
+        assertThat(다음_페이지).extracting(Order::getOrderDateTime)
+            .containsExactly(주문_일시.plusMinutes(1), 주문_일시.plusMinutes(1));
+        assertThat(다음_페이지.get(0).getId()).isNotEqualTo(다음_페이지.get(1).getId());
+    }
+
+    @DisplayName("주문 조회 - 같은 일시의 주문은 아이디 순서로 이어서 조회한다.")
+    @Test
+    void findAllByCursor02() {
+        //when
+        List<Order> 첫_페이지 = orderRepository.findAllByCursor(null, null, null, 3);
+        List<Order> 다음_페이지 = orderRepository.findAllByCursor(null, null, OrderCursor.from(첫_페이지.get(2)), 1);
+
+        //then
+        assertThat(다음_페이지).extracting(Order::getOrderDateTime)
+            .containsExactly(주문_일시.plusMinutes(1));
+        assertThat(다음_페이지.get(0).getId()).isNotEqualTo(첫_페이지.get(2).getId());
+    }
+
+    @DisplayName("주문 조회 - 주문 상태와 타입으로 걸러서 조회할 수 있다.")
+    @Test
+    void findAllByCursor03() {
+        //when
+        List<Order> 조회된_주문들 = orderRepository.findAllByCursor(
+            OrderStatus.WAITING,
+            OrderType.DELIVERY,
+            new OrderCursor(주문_일시.plusMinutes(10), UUID.randomUUID()),
+            2
+        );
+
+        //then
+        assertThat(조회된_주문들).extracting(Order::getId)
+            .containsExactly(등록된_주문들.get(0).getId(), 등록된_주문들.get(3).getId());
+    }
+
+    @DisplayName("주문 조회 - 조회 위치는 문자열로 주고받을 수 있다.")
+    @Test
+    void cursor01() {
+        OrderCursor 조회_위치 = OrderCursor.from(등록된_주문들.get(0));
+
+        OrderCursor 복원된_조회_위치 = OrderCursor.decode(조회_위치.encode());
+
+        assertThat(복원된_조회_위치.getOrderDateTime()).isEqualTo(조회_위치.getOrderDateTime());
+        assertThat(복원된_조회_위치.getId()).isEqualTo(조회_위치.getId());
+    }
+
+    @DisplayName("주문 저장 - 가격이 기록되지 않은 기존 주문이 아니면 총 가격 없이 저장할 수 없다.")
+    @Test
+    void save01() {
+        //given
+        Order 총_가격이_없는_주문 = new Order();
+        총_가격이_없는_주문.setId(UUID.randomUUID());
+        총_가격이_없는_주문.setOrderDateTime(주문_일시);
+        총_가격이_없는_주문.setStatus(OrderStatus.WAITING);
+        총_가격이_없는_주문.setType(OrderType.TAKEOUT);
+        총_가격이_없는_주문.setOrderLineItems(new ArrayList<>());
+
+        //when & then
+        assertThatThrownBy(() -> orderRepository.saveAndFlush(총_가격이_없는_주문))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private Order 주문_등록(LocalDateTime 주문_일시, OrderStatus 주문_상태, OrderType 주문_타입) {
+        Order 주문 = new Order();
+        주문.setId(UUID.randomUUID());
+        주문.setOrderDateTime(주문_일시);
+        주문.setStatus(주문_상태);
+        주문.setType(주문_타입);
+        주문.setOrderLineItems(new ArrayList<>());
+        주문.setTotalPrice(BigDecimal.ZERO);
+        return orderRepository.saveAndFlush(주문);
+    }
+}
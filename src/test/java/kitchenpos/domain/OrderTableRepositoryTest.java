@@ -0,0 +1,101 @@
+package kitchenpos.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class OrderTableRepositoryTest {
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("완료되지 않은 주문 수 - 주문이 등록되고 완료될 때마다 바뀐다.")
+    @Test
+    void activeOrderCount01() {
+        //given
+        OrderTable 주문_테이블 = 주문_테이블_등록();
+
+        //when
+        orderTableRepository.increaseActiveOrderCount(주문_테이블.getId(), 3);
+        orderTableRepository.decreaseActiveOrderCount(주문_테이블.getId());
+
+        //then
+        assertThat(orderTableRepository.findActiveOrderCountById(주문_테이블.getId())).isEqualTo(2);
+    }
+
+    @DisplayName("완료되지 않은 주문 수 - 주문 테이블의 다른 값을 바꿔도 덮어쓰지 않는다.")
+    @Test
+    void activeOrderCount02() {
+        //given
+        OrderTable 주문_테이블 = 주문_테이블_등록();
+        orderTableRepository.increaseActiveOrderCount(주문_테이블.getId(), 1);
+
+        //when
+        주문_테이블.setNumberOfGuests(4);
+        entityManager.flush();
+
+        //then
+        assertThat(orderTableRepository.findActiveOrderCountById(주문_테이블.getId())).isEqualTo(1);
+    }
+
+    @DisplayName("완료되지 않은 주문 수 재계산 - 주문 기준으로 어긋난 테이블만 다시 계산한다.")
+    @Test
+    void reconcileActiveOrderCounts01() {
+        //given
+        OrderTable 어긋난_테이블 = 주문_테이블_등록();
+        OrderTable 맞는_테이블 = 주문_테이블_등록();
+        주문_등록(어긋난_테이블, OrderStatus.WAITING);
+        주문_등록(어긋난_테이블, OrderStatus.COMPLETED);
+        주문_등록(맞는_테이블, OrderStatus.SERVED);
+        orderTableRepository.increaseActiveOrderCount(어긋난_테이블.getId(), 5);
+        orderTableRepository.increaseActiveOrderCount(맞는_테이블.getId(), 1);
+
+        //when
+        int 재계산된_테이블_수 = orderTableRepository.reconcileActiveOrderCounts();
+
+        //then
+        assertThat(재계산된_테이블_수).isEqualTo(1);
+        assertThat(orderTableRepository.findActiveOrderCountById(어긋난_테이블.getId())).isEqualTo(1);
+        assertThat(orderTableRepository.findActiveOrderCountById(맞는_테이블.getId())).isEqualTo(1);
+    }
+
+    private OrderTable 주문_테이블_등록() {
+        OrderTable 주문_테이블 = new OrderTable();
+        주문_테이블.setId(UUID.randomUUID());
+        주문_테이블.setName("9번");
+        주문_테이블.setNumberOfGuests(0);
+        주문_테이블.setEmpty(false);
+        OrderTable 등록된_주문_테이블 = orderTableRepository.save(주문_테이블);
+        entityManager.flush();
+        return 등록된_주문_테이블;
+    }
+
+    private void 주문_등록(OrderTable 주문_테이블, OrderStatus 주문_상태) {
+        Order 주문 = new Order();
+        주문.setId(UUID.randomUUID());
+        주문.setType(OrderType.EAT_IN);
+        주문.setStatus(주문_상태);
+        주문.setOrderDateTime(LocalDateTime.now());
+        주문.setOrderLineItems(new ArrayList<>());
+        주문.setTotalPrice(BigDecimal.ZERO);
+        주문.setOrderTable(주문_테이블);
+        orderRepository.save(주문);
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,248 @@
+package kitchenpos.domain;
+
+import kitchenpos.support.StatementCounter;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManager;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = StatementCounter.PROPERTY)
+class RepositoryQueryPlanTest {
+    private static final Pattern TABLE_ACCESS = Pattern.compile("(?:/\\*|/\\+\\+) PUBLIC\\.([A-Z0-9_]+)(\\.tableScan|:)?");
+    private static final List<Class<?>> REPOSITORIES = Arrays.asList(
+        DeliveryRequestRepository.class,
+        MenuGroupRepository.class,
+        MenuRepository.class,
+        OrderRepository.class,
+        OrderSearchRepository.class,
+        OrderTableRepository.class,
+        ProductRepository.class
+    );
+    private static final Set<String> FULL_SCAN_BY_DESIGN = new HashSet<>(Arrays.asList(
+        "MenuRepository.findAllWithMenuProducts",
+        "OrderRepository.countGroupByStatus",
+        "OrderTableRepository.reconcileActiveOrderCounts"
+    ));
+    private static final int 주문_수 = 200;
+
+    @Autowired
+    private DeliveryRequestRepository deliveryRequestRepository;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Product 상품;
+    private Menu 메뉴;
+    private OrderTable 주문_테이블;
+    private Order 주문;
+    private DeliveryRequest 배달_요청;
+
+    @BeforeEach
+    void setUp() {
+        MenuGroup 메뉴_그룹 = new MenuGroup();
+        메뉴_그룹.setId(UUID.randomUUID());
+        메뉴_그룹.setName("추천메뉴");
+        entityManager.persist(메뉴_그룹);
+
+        상품 = new Product();
+        상품.setId(UUID.randomUUID());
+        상품.setName("후라이드");
+        상품.setPrice(BigDecimal.valueOf(16_000L));
+        entityManager.persist(상품);
+
+        MenuProduct 메뉴_상품 = new MenuProduct();
+        메뉴_상품.setProduct(상품);
+        메뉴_상품.setQuantity(2L);
+        메뉴 = new Menu();
+        메뉴.setId(UUID.randomUUID());
+        메뉴.setName("후라이드+후라이드");
+        메뉴.setPrice(BigDecimal.valueOf(19_000L));
+        메뉴.setMenuGroup(메뉴_그룹);
+        메뉴.setDisplayed(true);
+        메뉴.setMenuProducts(new ArrayList<>(Collections.singletonList(메뉴_상품)));
+        entityManager.persist(메뉴);
+
+        주문_테이블 = new OrderTable();
+        주문_테이블.setId(UUID.randomUUID());
+        주문_테이블.setName("1번");
+        주문_테이블.setNumberOfGuests(4);
+        주문_테이블.setEmpty(false);
+        entityManager.persist(주문_테이블);
+
+        OrderStatus[] 주문_상태들 = OrderStatus.values();
+        OrderType[] 주문_타입들 = OrderType.values();
+        LocalDateTime 주문_일시 = LocalDateTime.of(2021, 8, 1, 12, 0);
+        for (int i = 0; i < 주문_수; i++) {
+            OrderLineItem 주문_항목 = new OrderLineItem();
+            주문_항목.setMenu(메뉴);
+            주문_항목.setPrice(메뉴.getPrice());
+            주문_항목.setQuantity(1L);
+            주문 = new Order();
+            주문.setId(UUID.randomUUID());
+            주문.setType(주문_타입들[i % 주문_타입들.length]);
+            주문.setStatus(주문_상태들[i % 주문_상태들.length]);
+            주문.setOrderDateTime(주문_일시.plusMinutes(i));
+            주문.setOrderLineItems(new ArrayList<>(Collections.singletonList(주문_항목)));
+            주문.setTotalPrice(메뉴.getPrice());
+            주문.setDeliveryAddress("서울시 송파구");
+            주문.setOrderTable(주문_테이블);
+            entityManager.persist(주문);
+        }
+
+        배달_요청 = new DeliveryRequest();
+        배달_요청.setId(UUID.randomUUID());
+        배달_요청.setOrderId(주문.getId());
+        배달_요청.setAmount(BigDecimal.valueOf(19_000L));
+        배달_요청.setDeliveryAddress("서울시 송파구");
+        배달_요청.setStatus(DeliveryRequestStatus.PENDING);
+        배달_요청.setAttempts(0);
+        배달_요청.setNextAttemptAt(주문_일시);
+        배달_요청.setCreatedAt(주문_일시);
+        entityManager.persist(배달_요청);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("실행 계획 - 모든 저장소 메서드의 실행 계획을 확인한다.")
+    @Test
+    void coverage() {
+        Set<String> 확인할_메서드들 = REPOSITORIES.stream()
+            .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                .map(Method::getName)
+                .map(name -> repository.getSimpleName() + "." + name))
+            .collect(Collectors.toSet());
+
+        assertThat(조회들().keySet().stream().map(이름 -> 이름.split(" ")[0]))
+            .containsAll(확인할_메서드들);
+    }
+
+    @DisplayName("실행 계획 - 저장소 메서드는 테이블 전체를 읽지 않는다.")
+    @Test
+    void explain() {
+        Map<String, List<String>> 전체를_읽는_메서드들 = new LinkedHashMap<>();
+        조회들().forEach((이름, 조회) -> {
+            List<String> 전체를_읽는_계획들 = 실행_계획들(조회).stream()
+                .filter(RepositoryQueryPlanTest::전체를_읽는다)
+                .collect(Collectors.toList());
+            if (!전체를_읽는_계획들.isEmpty() && !FULL_SCAN_BY_DESIGN.contains(이름)) {
+                전체를_읽는_메서드들.put(이름, 전체를_읽는_계획들);
+            }
+        });
+
+        assertThat(전체를_읽는_메서드들).isEmpty();
+    }
+
+    @DisplayName("실행 계획 - 전체를 읽도록 허용한 메서드는 실제로 전체를 읽는 메서드다.")
+    @Test
+    void explainFullScanByDesign() {
+        조회들().forEach((이름, 조회) -> {
+            if (FULL_SCAN_BY_DESIGN.contains(이름)) {
+                assertThat(실행_계획들(조회)).anyMatch(RepositoryQueryPlanTest::전체를_읽는다);
+            }
+        });
+    }
+
+    private Map<String, Runnable> 조회들() {
+        List<UUID> 상품_아이디들 = Collections.singletonList(상품.getId());
+        List<UUID> 메뉴_아이디들 = Collections.singletonList(메뉴.getId());
+        OrderCursor 커서 = new OrderCursor(주문.getOrderDateTime(), 주문.getId());
+        Map<String, Runnable> 조회들 = new LinkedHashMap<>();
+        조회들.put("DeliveryRequestRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt",
+            () -> deliveryRequestRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                DeliveryRequestStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, 100)));
+        조회들.put("DeliveryRequestRepository.claim",
+            () -> deliveryRequestRepository.claim(배달_요청.getId(), 배달_요청.getAttempts(), 배달_요청.getNextAttemptAt()));
+        조회들.put("MenuRepository.findAllByIdIn", () -> menuRepository.findAllByIdIn(메뉴_아이디들));
+        조회들.put("MenuRepository.findAllWithMenuProducts", () -> menuRepository.findAllWithMenuProducts());
+        조회들.put("MenuRepository.findAllByProductId", () -> menuRepository.findAllByProductId(상품.getId()));
+        조회들.put("MenuRepository.findAllDisplayedIdsPricedAboveProductsByProductIdIn",
+            () -> menuRepository.findAllDisplayedIdsPricedAboveProductsByProductIdIn(상품_아이디들));
+        조회들.put("MenuRepository.hideAllByIdIn", () -> menuRepository.hideAllByIdIn(메뉴_아이디들));
+        조회들.put("OrderRepository.countGroupByStatus", () -> orderRepository.countGroupByStatus());
+        조회들.put("OrderSearchRepository.findAllByCursor",
+            () -> orderRepository.findAllByCursor(null, null, null, 20));
+        조회들.put("OrderSearchRepository.findAllByCursor (cursor)",
+            () -> orderRepository.findAllByCursor(null, null, 커서, 20));
+        조회들.put("OrderSearchRepository.findAllByCursor (status, cursor)",
+            () -> orderRepository.findAllByCursor(OrderStatus.WAITING, null, 커서, 20));
+        조회들.put("OrderSearchRepository.findAllByCursor (type, cursor)",
+            () -> orderRepository.findAllByCursor(null, OrderType.DELIVERY, 커서, 20));
+        조회들.put("OrderSearchRepository.findAllByCursor (status, type, cursor)",
+            () -> orderRepository.findAllByCursor(OrderStatus.WAITING, OrderType.DELIVERY, 커서, 20));
+        조회들.put("OrderTableRepository.findActiveOrderCountById",
+            () -> orderTableRepository.findActiveOrderCountById(주문_테이블.getId()));
+        조회들.put("OrderTableRepository.increaseActiveOrderCount",
+            () -> orderTableRepository.increaseActiveOrderCount(주문_테이블.getId(), 1));
+        조회들.put("OrderTableRepository.decreaseActiveOrderCount",
+            () -> orderTableRepository.decreaseActiveOrderCount(주문_테이블.getId()));
+        조회들.put("OrderTableRepository.reconcileActiveOrderCounts",
+            () -> orderTableRepository.reconcileActiveOrderCounts());
+        조회들.put("ProductRepository.findAllByIdIn", () -> productRepository.findAllByIdIn(상품_아이디들));
+        return 조회들;
+    }
+
+    private List<String> 실행_계획들(Runnable 조회) {
+        StatementCounter.reset();
+        조회.run();
+        List<String> 실행된_쿼리들 = StatementCounter.statements();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            List<String> 실행_계획들 = new ArrayList<>();
+            for (String 실행된_쿼리 : 실행된_쿼리들) {
+                try (PreparedStatement statement = connection.prepareStatement("explain " + 실행된_쿼리)) {
+                    int 파라미터_수 = statement.getParameterMetaData().getParameterCount();
+                    for (int i = 1; i <= 파라미터_수; i++) {
+                        statement.setNull(i, Types.NULL);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        실행_계획들.add(resultSet.getString(1));
+                    }
+                }
+            }
+            return 실행_계획들;
+        });
+    }
+
+    private static boolean 전체를_읽는다(String 실행_계획) {
+        boolean 정렬된_인덱스를_필요한_만큼만_읽는다 = 실행_계획.contains("/* index sorted */")
+            && 실행_계획.contains("FETCH FIRST");
+        Matcher 테이블_접근 = TABLE_ACCESS.matcher(실행_계획);
+        while (테이블_접근.find()) {
+            String 접근_방식 = 테이블_접근.group(2);
+            if (".tableScan".equals(접근_방식)) {
+                return true;
+            }
+            if (Objects.isNull(접근_방식) && !정렬된_인덱스를_필요한_만큼만_읽는다) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
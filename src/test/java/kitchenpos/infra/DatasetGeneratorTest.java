@@ -0,0 +1,124 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class DatasetGeneratorTest {
+    private static final LocalDateTime 생성_기준_시각 = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final String 생성된_주문_조건 = " where o.order_date_time < '2000-01-01'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private DatasetGenerator datasetGenerator;
+    private DatasetSize 크기;
+
+    @BeforeEach
+    void setUp() {
+        datasetGenerator = new DatasetGenerator(jdbcTemplate);
+        크기 = new DatasetSize();
+        크기.setMenuGroups(3);
+        크기.setProducts(30);
+        크기.setMenus(100);
+        크기.setOrderTables(10);
+        크기.setOrders(3_000);
+        크기.setActiveOrderRatio(0.1);
+        크기.setUntil(생성_기준_시각);
+    }
+
+    @DisplayName("데이터 생성 - 요청한 수만큼 모든 주문 상태에 걸친 주문을 만든다.")
+    @Test
+    void generate01() {
+        Dataset 데이터 = datasetGenerator.generate(크기, 1L);
+
+        assertThat(데이터.getProductIds()).hasSize(30);
+        assertThat(데이터.getOrderTableIds()).hasSize(10);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from orders o" + 생성된_주문_조건, Integer.class))
+            .isEqualTo(3_000);
+        assertThat(jdbcTemplate.queryForList("select distinct o.status from orders o" + 생성된_주문_조건, String.class))
+            .containsExactlyInAnyOrder(names(OrderStatus.values()));
+        assertThat(jdbcTemplate.queryForList(
+            "select distinct o.status from orders o" + 생성된_주문_조건 + " and o.type <> 'DELIVERY'", String.class
+        )).doesNotContain(OrderStatus.DELIVERING.name(), OrderStatus.DELIVERED.name());
+    }
+
+    @DisplayName("데이터 생성 - 서비스가 만든 것과 같은 규칙을 지키는 데이터를 만든다.")
+    @Test
+    void generate02() {
+        Dataset 데이터 = datasetGenerator.generate(크기, 1L);
+        entityManager.clear();
+
+        List<Menu> 메뉴들 = menuRepository.findAllByIdIn(데이터.getMenuIds());
+        assertThat(메뉴들).hasSameSizeAs(데이터.getMenuIds())
+            .allMatch(Menu::isDisplayed)
+            .allMatch(메뉴 -> 메뉴.getMenuProducts().size() <= 크기.getMaxProductsPerMenu())
+            .allMatch(메뉴 -> 메뉴.getPrice().compareTo(메뉴.getMenuProducts().stream()
+                .map(메뉴_상품 -> 메뉴_상품.getProduct().getPrice().multiply(BigDecimal.valueOf(메뉴_상품.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)) <= 0);
+        assertThat(orderTableRepository.reconcileActiveOrderCounts()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from orders o" + 생성된_주문_조건
+                + " and (o.type = 'DELIVERY' and o.delivery_address is null or o.type = 'EAT_IN' and o.order_table_id is null)",
+            Integer.class
+        )).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from orders o" + 생성된_주문_조건
+                + " and o.type = 'DELIVERY' and o.status <> 'WAITING'"
+                + " and not exists (select 1 from delivery_request d where d.order_id = o.id)",
+            Integer.class
+        )).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from orders o" + 생성된_주문_조건
+                + " and o.total_price <> (select sum(l.price * l.quantity) from order_line_item l where l.order_id = o.id)",
+            Integer.class
+        )).isZero();
+    }
+
+    @DisplayName("데이터 생성 - 많은 메뉴에 포함된 상품이 앞에 온다.")
+    @Test
+    void generate03() {
+        Dataset 데이터 = datasetGenerator.generate(크기, 1L);
+        entityManager.clear();
+
+        assertThat(menuRepository.findAllByProductId(데이터.getProductIds().get(0)).size())
+            .isGreaterThan(menuRepository.findAllByProductId(데이터.getProductIds().get(29)).size());
+    }
+
+    @DisplayName("데이터 생성 - 메뉴나 상품 없이는 만들 수 없다.")
+    @Test
+    void generate04() {
+        크기.setProducts(0);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> datasetGenerator.generate(크기, 1L));
+    }
+
+    private static String[] names(OrderStatus[] 주문_상태들) {
+        String[] 이름들 = new String[주문_상태들.length];
+        for (int i = 0; i < 주문_상태들.length; i++) {
+            이름들[i] = 주문_상태들[i].name();
+        }
+        return 이름들;
+    }
+}
@@ -0,0 +1,81 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.maximum-pool-size=2",
+    "spring.datasource.hikari.connection-timeout=1000"
+})
+@Transactional
+class IsolatedTableGeneratorTest {
+
+    @Autowired
+    private MenuRepository menuRepository;
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private DataSource dataSource;
+
+    @DisplayName("메뉴 상품 번호 - 커넥션 풀의 커넥션을 모두 쓰고 있어도 번호를 새로 받아 온다.")
+    @Test
+    void generate() throws SQLException {
+        //given
+        MenuGroup 메뉴_그룹 = new MenuGroup();
+        메뉴_그룹.setId(UUID.randomUUID());
+        메뉴_그룹.setName("신메뉴");
+        menuGroupRepository.save(메뉴_그룹);
+        entityManager.flush();
+
+        List<MenuProduct> 메뉴_상품들 = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Product 상품 = new Product();
+            상품.setId(UUID.randomUUID());
+            상품.setName("상품 " + i);
+            상품.setPrice(BigDecimal.valueOf(1_000L));
+            MenuProduct 메뉴_상품 = new MenuProduct();
+            메뉴_상품.setProduct(productRepository.save(상품));
+            메뉴_상품.setQuantity(1L);
+            메뉴_상품들.add(메뉴_상품);
+        }
+        Menu 메뉴 = new Menu();
+        메뉴.setId(UUID.randomUUID());
+        메뉴.setName("모둠 세트");
+        메뉴.setPrice(BigDecimal.valueOf(60_000L));
+        메뉴.setMenuGroup(메뉴_그룹);
+        메뉴.setDisplayed(true);
+        메뉴.setMenuProducts(메뉴_상품들);
+
+        //when
+        Menu 등록된_메뉴;
+        try (Connection 남은_커넥션 = dataSource.getConnection()) {
+            등록된_메뉴 = menuRepository.save(메뉴);
+            entityManager.flush();
+        }
+
+        //then
+        assertThat(등록된_메뉴.getMenuProducts())
+            .extracting(MenuProduct::getSeq)
+            .doesNotContainNull()
+            .doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,47 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalPurgomalumClientTest {
+
+    private final LocalPurgomalumClient 기본_사전 = new LocalPurgomalumClient(new SimpleMeterRegistry(), new ClassPathResource("profanity/words.txt"));
+
+    @DisplayName("비속어 검사 - 사전에 등록된 단어가 포함된 이름을 판별한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"damn pie", "Damn Pie", "meat pie, damn!", "DAMN"})
+    void containsProfanity01(String 이름) {
+        assertThat(기본_사전.containsProfanity(이름)).isTrue();
+        assertThat(기본_사전.containsProfanityAsync(이름).join()).isTrue();
+    }
+
+    @DisplayName("비속어 검사 - 다른 단어의 일부로 포함된 경우는 비속어로 판별하지 않는다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"맛있는 미트파이", "scrapple", "Scunthorpe special", "dickens pie", ""})
+    void containsProfanity02(String 이름) {
+        assertThat(기본_사전.containsProfanity(이름)).isFalse();
+    }
+
+    @DisplayName("비속어 검사 - 서로 겹치는 단어들도 모두 찾는다.")
+    @Test
+    void containsProfanity03() {
+        LocalPurgomalumClient 사전 = new LocalPurgomalumClient(new SimpleMeterRegistry(), new ByteArrayResource(
+                "he\nshe\nhis\nhers\n# comment\n".getBytes(StandardCharsets.UTF_8)
+        ));
+
+        assertThat(사전.containsProfanity("ushers")).isFalse();
+        assertThat(사전.containsProfanity("u hers")).isTrue();
+        assertThat(사전.containsProfanity("she's")).isTrue();
+        assertThat(사전.containsProfanity("this")).isFalse();
+        assertThat(사전.containsProfanity("comment")).isFalse();
+    }
+}
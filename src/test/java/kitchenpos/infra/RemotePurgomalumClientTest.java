@@ -0,0 +1,132 @@
+package kitchenpos.infra;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RemotePurgomalumClientTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService executor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile CountDownLatch response = new CountDownLatch(0);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/service/containsprofanity", exchange -> {
+            requestCount.incrementAndGet();
+            await(response);
+            final String query = exchange.getRequestURI().getQuery();
+            final byte[] body = String.valueOf(query.contains("damn")).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @DisplayName("비속어 검사 - 비속어가 포함된 이름을 판별한다.")
+    @Test
+    void containsProfanity01() {
+        PurgomalumClient purgomalumClient = client(Duration.ofSeconds(2L));
+
+        assertThat(purgomalumClient.containsProfanity("damn pie")).isTrue();
+        assertThat(purgomalumClient.containsProfanity("meat pie")).isFalse();
+    }
+
+    @DisplayName("비속어 검사 - 한 번 검사한 이름은 다시 요청하지 않는다.")
+    @Test
+    void containsProfanity02() {
+        PurgomalumClient purgomalumClient = client(Duration.ofSeconds(2L));
+
+        purgomalumClient.containsProfanity("meat pie");
+        purgomalumClient.containsProfanity("meat pie");
+        purgomalumClient.containsProfanityAsync("meat pie").join();
+
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("비속어 검사 - 비동기 검사는 응답을 기다리지 않고 반환한다.")
+    @Test
+    void containsProfanityAsync() {
+        response = new CountDownLatch(1);
+        PurgomalumClient purgomalumClient = client(Duration.ofSeconds(2L));
+
+        CompletableFuture<Boolean> result = purgomalumClient.containsProfanityAsync("damn pie");
+
+        assertThat(result).isNotDone();
+        response.countDown();
+        assertThat(result.join()).isTrue();
+    }
+
+    @DisplayName("비속어 검사 - 응답 제한 시간을 넘기면 실패하고 결과를 저장하지 않는다.")
+    @Test
+    void containsProfanity03() throws Exception {
+        response = new CountDownLatch(1);
+        PurgomalumClient purgomalumClient = client(Duration.ofSeconds(1L));
+
+        assertThatThrownBy(() -> purgomalumClient.containsProfanity("meat pie"))
+                .isInstanceOf(ResourceAccessException.class);
+        response.countDown();
+        비동기_작업이_끝날_때까지_기다린다();
+        assertThat(purgomalumClient.containsProfanity("meat pie")).isFalse();
+    }
+
+    private RemotePurgomalumClient client(Duration readTimeout) {
+        return new RemotePurgomalumClient(
+                new RestTemplateBuilder(),
+                executor,
+                new SimpleMeterRegistry(),
+                "http://localhost:" + server.getAddress().getPort(),
+                Duration.ofSeconds(1L),
+                readTimeout,
+                100L,
+                Duration.ofMinutes(1L)
+        );
+    }
+
+    private void 비동기_작업이_끝날_때까지_기다린다() throws Exception {
+        executor.submit(() -> {
+        }).get();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
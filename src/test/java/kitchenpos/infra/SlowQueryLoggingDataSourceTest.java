@@ -0,0 +1,112 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(OutputCaptureExtension.class)
+class SlowQueryLoggingDataSourceTest {
+    private static final String SQL = "select ? as name, ? as price";
+    private static final String INSERT_SQL = "insert into slow_query_product (name, price) values (?, ?)";
+
+    private final DataSource 데이터소스 = new DriverManagerDataSource("jdbc:h2:mem:slow-query;DB_CLOSE_DELAY=-1", "sa", "");
+
+    @DisplayName("느린 쿼리 로그 - 기준 시간을 넘긴 쿼리는 바인드 값과 함께 기록한다.")
+    @Test
+    void log01(final CapturedOutput 출력) throws Exception {
+        //given
+        SlowQueryLoggingDataSource 느린_쿼리_데이터소스 = new SlowQueryLoggingDataSource(데이터소스, Duration.ZERO, 1.0);
+
+        //when
+        조회한다(느린_쿼리_데이터소스);
+
+        //then
+        assertThat(출력).contains("slow query", SQL, "[fried chicken, 16000]");
+    }
+
+    @DisplayName("느린 쿼리 로그 - 기준 시간 안에 끝난 쿼리는 기록하지 않는다.")
+    @Test
+    void log02(final CapturedOutput 출력) throws Exception {
+        //given
+        SlowQueryLoggingDataSource 느린_쿼리_데이터소스 = new SlowQueryLoggingDataSource(데이터소스, Duration.ofHours(1L), 1.0);
+
+        //when
+        조회한다(느린_쿼리_데이터소스);
+
+        //then
+        assertThat(출력).doesNotContain("slow query");
+    }
+
+    @DisplayName("느린 쿼리 로그 - 표본으로 뽑히지 않은 쿼리도 기준 시간을 넘기면 바인드 값 없이 기록한다.")
+    @Test
+    void log03(final CapturedOutput 출력) throws Exception {
+        //given
+        SlowQueryLoggingDataSource 느린_쿼리_데이터소스 = new SlowQueryLoggingDataSource(데이터소스, Duration.ZERO, 0.0);
+
+        //when
+        조회한다(느린_쿼리_데이터소스);
+
+        //then
+        assertThat(출력).contains("slow query", SQL).doesNotContain("binds", "fried chicken");
+    }
+
+    @DisplayName("느린 쿼리 로그 - 배치로 실행한 쿼리는 행마다 바인드 값을 기록하고 실행한 뒤에는 비운다.")
+    @Test
+    void log04(final CapturedOutput 출력) throws Exception {
+        //given
+        SlowQueryLoggingDataSource 느린_쿼리_데이터소스 = new SlowQueryLoggingDataSource(데이터소스, Duration.ZERO, 1.0);
+
+        //when
+        try (Connection 연결 = 느린_쿼리_데이터소스.getConnection();
+             Statement 테이블_생성 = 연결.createStatement()) {
+            테이블_생성.execute("create table if not exists slow_query_product (name varchar(255), price bigint)");
+            try (PreparedStatement 쿼리 = 연결.prepareStatement(INSERT_SQL)) {
+                쿼리.setString(1, "fried chicken");
+                쿼리.setLong(2, 16_000L);
+                쿼리.addBatch();
+                쿼리.setString(1, "seasoned chicken");
+                쿼리.setLong(2, 17_000L);
+                쿼리.addBatch();
+                쿼리.executeBatch();
+                쿼리.executeBatch();
+            }
+        }
+
+        //then
+        assertThat(출력).contains(
+            "(batch size 2): " + INSERT_SQL + " binds [[fried chicken, 16000], [seasoned chicken, 17000]]",
+            "(batch size 0): " + INSERT_SQL + " binds []"
+        );
+    }
+
+    @DisplayName("느린 쿼리 로그 - 표본 비율은 0 이상 1 이하여야 한다.")
+    @Test
+    void create() {
+        assertThatThrownBy(() -> new SlowQueryLoggingDataSource(데이터소스, Duration.ZERO, 1.5))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void 조회한다(final DataSource 데이터소스) throws Exception {
+        try (Connection 연결 = 데이터소스.getConnection();
+             PreparedStatement 쿼리 = 연결.prepareStatement(SQL)) {
+            쿼리.setString(1, "fried chicken");
+            쿼리.setLong(2, 16_000L);
+            try (ResultSet 결과 = 쿼리.executeQuery()) {
+                assertThat(결과.next()).isTrue();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final Instant 생성_시각 = Instant.parse("2021-08-01T12:00:00Z");
+
+    @DisplayName("아이디 생성 - 생성 시각을 앞에 담은 버전 7 UUID를 만든다.")
+    @Test
+    void generateId01() {
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(Clock.fixed(생성_시각, ZoneOffset.UTC), new Random(0L));
+
+        UUID 아이디 = idGenerator.generateId();
+
+        assertThat(아이디.version()).isEqualTo(7);
+        assertThat(아이디.variant()).isEqualTo(2);
+        assertThat(아이디.getMostSignificantBits() >>> 16).isEqualTo(생성_시각.toEpochMilli());
+    }
+
+    @DisplayName("아이디 생성 - 같은 시각에 만든 아이디도 저장되는 바이트 순서대로 증가한다.")
+    @Test
+    void generateId02() {
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(Clock.fixed(생성_시각, ZoneOffset.UTC), new Random(0L));
+        List<UUID> 아이디들 = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            아이디들.add(idGenerator.generateId());
+        }
+
+        for (int i = 1; i < 아이디들.size(); i++) {
+            assertThat(바이트_순서로_비교(아이디들.get(i), 아이디들.get(i - 1))).isPositive();
+        }
+    }
+
+    private static int 바이트_순서로_비교(UUID 아이디, UUID 다른_아이디) {
+        int 비교_결과 = Long.compareUnsigned(아이디.getMostSignificantBits(), 다른_아이디.getMostSignificantBits());
+        if (비교_결과 != 0) {
+            return 비교_결과;
+        }
+        return Long.compareUnsigned(아이디.getLeastSignificantBits(), 다른_아이디.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,65 @@
+package kitchenpos.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class LatencyRecorder {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(final String endpoint, final long intendedStartNanos, final boolean succeeded) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS))
+            .recordValue(Math.min(Math.max(micros, 0L), HIGHEST_TRACKABLE_MICROS));
+        if (!succeeded) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    Map<String, Histogram> getHistograms() {
+        return histograms;
+    }
+
+    long errorCount(final String endpoint) {
+        final LongAdder count = errors.get(endpoint);
+        return count == null ? 0L : count.sum();
+    }
+
+    long totalErrorCount() {
+        return errors.values().stream()
+            .mapToLong(LongAdder::sum)
+            .sum();
+    }
+
+    String report(final int durationSeconds) {
+        final StringBuilder report = new StringBuilder(String.format(
+            "%-52s %8s %7s %8s %9s %9s %9s %9s%n",
+            "endpoint", "count", "errors", "rps", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"
+        ));
+        histograms.forEach((endpoint, histogram) -> report.append(String.format(
+            "%-52s %8d %7d %8.1f %9.2f %9.2f %9.2f %9.2f%n",
+            endpoint,
+            histogram.getTotalCount(),
+            errorCount(endpoint),
+            (double) histogram.getTotalCount() / durationSeconds,
+            millis(histogram.getValueAtPercentile(50.0)),
+            millis(histogram.getValueAtPercentile(99.0)),
+            millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue())
+        )));
+        return report.toString();
+    }
+
+    private static double millis(final long micros) {
+        return micros / 1_000.0;
+    }
+}
@@ -0,0 +1,55 @@
+package kitchenpos.load;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.OrderLineItem;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+class LoadFixture {
+    private static final int MAX_ORDER_LINE_ITEMS = 4;
+    private static final int MAX_QUANTITY = 3;
+
+    private final List<Menu> menus;
+    private final BlockingQueue<UUID> emptyOrderTableIds;
+
+    LoadFixture(final List<Menu> menus, final List<UUID> emptyOrderTableIds) {
+        if (menus.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        this.menus = new ArrayList<>(menus);
+        this.emptyOrderTableIds = new LinkedBlockingQueue<>(emptyOrderTableIds);
+    }
+
+    List<OrderLineItem> orderLineItems(final SplittableRandom random) {
+        final int count = Math.min(1 + random.nextInt(MAX_ORDER_LINE_ITEMS), menus.size());
+        final Set<Menu> orderedMenus = new LinkedHashSet<>();
+        while (orderedMenus.size() < count) {
+            final double skew = random.nextDouble();
+            orderedMenus.add(menus.get((int) (menus.size() * skew * skew)));
+        }
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Menu menu : orderedMenus) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menu.getId());
+            orderLineItem.setPrice(menu.getPrice());
+            orderLineItem.setQuantity(1 + random.nextInt(MAX_QUANTITY));
+            orderLineItems.add(orderLineItem);
+        }
+        return orderLineItems;
+    }
+
+    UUID takeEmptyOrderTable() {
+        return emptyOrderTableIds.poll();
+    }
+
+    void returnEmptyOrderTable(final UUID orderTableId) {
+        emptyOrderTableIds.add(orderTableId);
+    }
+}
@@ -0,0 +1,91 @@
+package kitchenpos.load;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderType;
+import org.springframework.http.HttpMethod;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+enum LoadFlow {
+    EAT_IN("eat-in") {
+        @Override
+        void run(final LoadSession session, final LoadFixture fixture, final SplittableRandom random) {
+            final UUID orderTableId = fixture.takeEmptyOrderTable();
+            if (orderTableId == null) {
+                TAKEOUT.run(session, fixture, random);
+                return;
+            }
+            try {
+                session.exchange(HttpMethod.PUT, "/api/order-tables/{orderTableId}/sit", null, OrderTable.class, orderTableId);
+                final OrderTable guests = new OrderTable();
+                guests.setNumberOfGuests(1 + random.nextInt(6));
+                session.exchange(
+                    HttpMethod.PUT, "/api/order-tables/{orderTableId}/number-of-guests", guests, OrderTable.class, orderTableId
+                );
+                final Order request = new Order();
+                request.setType(OrderType.EAT_IN);
+                request.setOrderTableId(orderTableId);
+                request.setOrderLineItems(fixture.orderLineItems(random));
+                final UUID orderId = session.exchange(HttpMethod.POST, "/api/orders", request, Order.class).getId();
+                session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/accept", null, Order.class, orderId);
+                session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/serve", null, Order.class, orderId);
+                session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/complete", null, Order.class, orderId);
+                session.exchange(HttpMethod.PUT, "/api/order-tables/{orderTableId}/clear", null, OrderTable.class, orderTableId);
+            } finally {
+                fixture.returnEmptyOrderTable(orderTableId);
+            }
+        }
+    },
+    TAKEOUT("takeout") {
+        @Override
+        void run(final LoadSession session, final LoadFixture fixture, final SplittableRandom random) {
+            final Order request = new Order();
+            request.setType(OrderType.TAKEOUT);
+            request.setOrderLineItems(fixture.orderLineItems(random));
+            final UUID orderId = session.exchange(HttpMethod.POST, "/api/orders", request, Order.class).getId();
+            session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/accept", null, Order.class, orderId);
+            session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/serve", null, Order.class, orderId);
+            session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/complete", null, Order.class, orderId);
+        }
+    },
+    DELIVERY("delivery") {
+        @Override
+        void run(final LoadSession session, final LoadFixture fixture, final SplittableRandom random) {
+            final Order request = new Order();
+            request.setType(OrderType.DELIVERY);
+            request.setDeliveryAddress("서울시 송파구 위례성대로 " + (1 + random.nextInt(100)));
+            request.setOrderLineItems(fixture.orderLineItems(random));
+            final UUID orderId = session.exchange(HttpMethod.POST, "/api/orders", request, Order.class).getId();
+            session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/accept", null, Order.class, orderId);
+            session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/serve", null, Order.class, orderId);
+            session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/start-delivery", null, Order.class, orderId);
+            session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/complete-delivery", null, Order.class, orderId);
+            session.exchange(HttpMethod.PUT, "/api/orders/{orderId}/complete", null, Order.class, orderId);
+        }
+    },
+    MENU_BOARD("menu-board") {
+        @Override
+        void run(final LoadSession session, final LoadFixture fixture, final SplittableRandom random) {
+            session.exchange(HttpMethod.GET, "/api/menus", null, Menu[].class);
+        }
+    };
+
+    private final String name;
+
+    LoadFlow(final String name) {
+        this.name = name;
+    }
+
+    static LoadFlow of(final String name) {
+        return Arrays.stream(values())
+            .filter(flow -> flow.name.equals(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(name));
+    }
+
+    abstract void run(LoadSession session, LoadFixture fixture, SplittableRandom random);
+}
@@ -0,0 +1,110 @@
+package kitchenpos.load;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+class LoadProfile {
+    private static final String PREFIX = "kitchenpos.load.";
+    private static final String DEFAULT_MIX = "eat-in:35,takeout:25,delivery:30,menu-board:10";
+
+    private final double arrivalsPerSecond;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int orders;
+    private final long seed;
+    private final Map<LoadFlow, Integer> mix;
+    private final int totalWeight;
+
+    private LoadProfile(
+        final double arrivalsPerSecond,
+        final int warmupSeconds,
+        final int durationSeconds,
+        final int orders,
+        final long seed,
+        final Map<LoadFlow, Integer> mix
+    ) {
+        if (arrivalsPerSecond <= 0 || warmupSeconds < 0 || durationSeconds <= 0 || orders < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.arrivalsPerSecond = arrivalsPerSecond;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.orders = orders;
+        this.seed = seed;
+        this.mix = Collections.unmodifiableMap(mix);
+        this.totalWeight = mix.values().stream()
+            .mapToInt(Integer::intValue)
+            .sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+            Double.parseDouble(System.getProperty(PREFIX + "rate", "20")),
+            Integer.parseInt(System.getProperty(PREFIX + "warmup-seconds", "10")),
+            Integer.parseInt(System.getProperty(PREFIX + "duration-seconds", "60")),
+            Integer.parseInt(System.getProperty(PREFIX + "orders", "100000")),
+            Long.parseLong(System.getProperty(PREFIX + "seed", "20210801")),
+            parseMix(System.getProperty(PREFIX + "mix", DEFAULT_MIX))
+        );
+    }
+
+    private static Map<LoadFlow, Integer> parseMix(final String mix) {
+        final Map<LoadFlow, Integer> weights = new EnumMap<>(LoadFlow.class);
+        for (final String entry : mix.split(",")) {
+            final String[] nameAndWeight = entry.trim().split(":");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException(entry);
+            }
+            final int weight = Integer.parseInt(nameAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException(entry);
+            }
+            weights.put(LoadFlow.of(nameAndWeight[0].trim()), weight);
+        }
+        return weights;
+    }
+
+    LoadFlow nextFlow(final SplittableRandom random) {
+        int remaining = random.nextInt(totalWeight);
+        for (final Map.Entry<LoadFlow, Integer> entry : mix.entrySet()) {
+            remaining -= entry.getValue();
+            if (remaining < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    long nextInterArrivalNanos(final SplittableRandom random) {
+        return (long) (-Math.log(1.0 - random.nextDouble()) / arrivalsPerSecond * 1_000_000_000L);
+    }
+
+    double getArrivalsPerSecond() {
+        return arrivalsPerSecond;
+    }
+
+    int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    int getOrders() {
+        return orders;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    Map<LoadFlow, Integer> getMix() {
+        return mix;
+    }
+}
@@ -0,0 +1,43 @@
+package kitchenpos.load;
+
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+
+class LoadSession {
+    private final TestRestTemplate restTemplate;
+    private final LatencyRecorder recorder;
+    private long intendedStartNanos;
+
+    LoadSession(final TestRestTemplate restTemplate, final LatencyRecorder recorder, final long arrivalNanos) {
+        this.restTemplate = restTemplate;
+        this.recorder = recorder;
+        this.intendedStartNanos = arrivalNanos;
+    }
+
+    <T> T exchange(
+        final HttpMethod method,
+        final String uriTemplate,
+        final Object body,
+        final Class<T> responseType,
+        final Object... uriVariables
+    ) {
+        final String endpoint = method + " " + uriTemplate;
+        final ResponseEntity<T> response;
+        try {
+            response = restTemplate.exchange(uriTemplate, method, new HttpEntity<>(body), responseType, uriVariables);
+        } catch (final RestClientException e) {
+            recorder.record(endpoint, intendedStartNanos, false);
+            throw e;
+        }
+        final boolean succeeded = response.getStatusCode().is2xxSuccessful();
+        recorder.record(endpoint, intendedStartNanos, succeeded);
+        intendedStartNanos = System.nanoTime();
+        if (!succeeded) {
+            throw new IllegalStateException(endpoint + " " + response.getStatusCode());
+        }
+        return response.getBody();
+    }
+}
@@ -0,0 +1,119 @@
+package kitchenpos.load;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.infra.Dataset;
+import kitchenpos.infra.DatasetGenerator;
+import kitchenpos.infra.DatasetSize;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF"
+    }
+)
+class LoadTest {
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("부하 - 설정한 도착률로 주문 흐름을 실행하고 엔드포인트별 응답 시간 분포를 보고한다.")
+    @Test
+    void run() throws Exception {
+        //given
+        LoadProfile 부하_설정 = LoadProfile.fromSystemProperties();
+        LoadFixture 부하_데이터 = 부하_데이터_생성(부하_설정);
+        LatencyRecorder 예열_기록 = new LatencyRecorder();
+        LatencyRecorder 측정_기록 = new LatencyRecorder();
+        LongAdder 실패한_흐름_수 = new LongAdder();
+        ExecutorService 손님들 = Executors.newCachedThreadPool();
+        SplittableRandom random = new SplittableRandom(부하_설정.getSeed());
+
+        //when
+        long 시작_시각 = System.nanoTime();
+        long 측정_시작_시각 = 시작_시각 + TimeUnit.SECONDS.toNanos(부하_설정.getWarmupSeconds());
+        long 종료_시각 = 측정_시작_시각 + TimeUnit.SECONDS.toNanos(부하_설정.getDurationSeconds());
+        long 도착_시각 = 시작_시각;
+        while ((도착_시각 += 부하_설정.nextInterArrivalNanos(random)) < 종료_시각) {
+            대기(도착_시각);
+            LoadSession 손님 = new LoadSession(restTemplate, 도착_시각 < 측정_시작_시각 ? 예열_기록 : 측정_기록, 도착_시각);
+            LoadFlow 흐름 = 부하_설정.nextFlow(random);
+            SplittableRandom 손님_random = random.split();
+            손님들.execute(() -> {
+                try {
+                    흐름.run(손님, 부하_데이터, 손님_random);
+                } catch (RuntimeException e) {
+                    실패한_흐름_수.increment();
+                }
+            });
+        }
+        손님들.shutdown();
+
+        //then
+        assertThat(손님들.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        System.out.printf(
+            "rate %.1f/s, warmup %ds, duration %ds, mix %s, failed flows %d%n%s",
+            부하_설정.getArrivalsPerSecond(),
+            부하_설정.getWarmupSeconds(),
+            부하_설정.getDurationSeconds(),
+            부하_설정.getMix(),
+            실패한_흐름_수.sum(),
+            측정_기록.report(부하_설정.getDurationSeconds())
+        );
+        assertThat(측정_기록.getHistograms()).isNotEmpty();
+        assertThat(측정_기록.totalErrorCount()).isZero();
+        assertThat(실패한_흐름_수.sum()).isZero();
+    }
+
+    private LoadFixture 부하_데이터_생성(LoadProfile 부하_설정) {
+        DatasetSize 데이터_크기 = new DatasetSize();
+        데이터_크기.setOrders(부하_설정.getOrders());
+        Dataset 데이터 = new DatasetGenerator(jdbcTemplate).generate(데이터_크기, 부하_설정.getSeed());
+
+        Map<UUID, Menu> 메뉴들 = Arrays.stream(Objects.requireNonNull(restTemplate.getForObject("/api/menus", Menu[].class)))
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
+        List<Menu> 인기순_메뉴들 = 데이터.getMenuIds().stream()
+            .map(메뉴들::get)
+            .collect(Collectors.toList());
+        List<UUID> 빈_테이블_아이디들 = Arrays.stream(Objects.requireNonNull(restTemplate.getForObject("/api/order-tables", OrderTable[].class)))
+            .filter(OrderTable::isEmpty)
+            .map(OrderTable::getId)
+            .filter(데이터.getOrderTableIds()::contains)
+            .collect(Collectors.toList());
+        return new LoadFixture(인기순_메뉴들, 빈_테이블_아이디들);
+    }
+
+    private static void 대기(long 시각) {
+        long 남은_시간;
+        while ((남은_시간 = 시각 - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(남은_시간);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package kitchenpos.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StatementCounter implements StatementInspector {
+    public static final String PROPERTY =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=kitchenpos.support.StatementCounter";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(final String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    public static long selectCount() {
+        return STATEMENTS.get().stream()
+            .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+            .count();
+    }
+
+    public static long totalCount() {
+        return STATEMENTS.get().size();
+    }
+
+    public static List<String> statements() {
+        return new ArrayList<>(STATEMENTS.get());
+    }
+}
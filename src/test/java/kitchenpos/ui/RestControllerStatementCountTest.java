@@ -0,0 +1,123 @@
+package kitchenpos.ui;
+
+import kitchenpos.domain.*;
+import kitchenpos.support.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = StatementCounter.PROPERTY)
+@AutoConfigureMockMvc
+@Transactional
+class RestControllerStatementCountTest {
+    private static final int 등록할_데이터_수 = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManager entityManager;
+
+    private static Stream<Arguments> provideEndpointsAndStatementBudgets() {
+        return Stream.of(
+            Arguments.of("/api/products", 1),
+            Arguments.of("/api/menu-groups", 1),
+            Arguments.of("/api/menus", 1),
+            Arguments.of("/api/order-tables", 1),
+            Arguments.of("/api/orders?size=100", 3)
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 등록할_데이터_수; i++) {
+            주문_등록(i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("조회 API - 조회하는 데이터 수와 관계없이 정해진 수 이하의 쿼리만 실행한다.")
+    @MethodSource("provideEndpointsAndStatementBudgets")
+    @ParameterizedTest(name = "{0} - {1}")
+    void statementCount(String 조회_경로, int 허용_쿼리_수) throws Exception {
+        //given
+        StatementCounter.reset();
+
+        //when
+        mockMvc.perform(get(조회_경로))
+            .andExpect(status().isOk());
+
+        //then
+        assertThat(StatementCounter.totalCount())
+            .as(String.join("\n", StatementCounter.statements()))
+            .isLessThanOrEqualTo(허용_쿼리_수);
+    }
+
+    private void 주문_등록(int 순번) {
+        MenuGroup 메뉴_그룹 = new MenuGroup();
+        메뉴_그룹.setId(UUID.randomUUID());
+        메뉴_그룹.setName("메뉴 그룹 " + 순번);
+        entityManager.persist(메뉴_그룹);
+
+        Product 상품 = new Product();
+        상품.setId(UUID.randomUUID());
+        상품.setName("상품 " + 순번);
+        상품.setPrice(BigDecimal.valueOf(16_000L));
+        entityManager.persist(상품);
+
+        MenuProduct 메뉴_상품 = new MenuProduct();
+        메뉴_상품.setProduct(상품);
+        메뉴_상품.setQuantity(1L);
+
+        Menu 메뉴 = new Menu();
+        메뉴.setId(UUID.randomUUID());
+        메뉴.setName("메뉴 " + 순번);
+        메뉴.setPrice(BigDecimal.valueOf(16_000L));
+        메뉴.setMenuGroup(메뉴_그룹);
+        메뉴.setDisplayed(true);
+        메뉴.setMenuProducts(new ArrayList<>(Collections.singletonList(메뉴_상품)));
+        entityManager.persist(메뉴);
+
+        OrderTable 주문_테이블 = new OrderTable();
+        주문_테이블.setId(UUID.randomUUID());
+        주문_테이블.setName("테이블 " + 순번);
+        주문_테이블.setNumberOfGuests(2);
+        주문_테이블.setEmpty(false);
+        entityManager.persist(주문_테이블);
+
+        OrderLineItem 주문_항목 = new OrderLineItem();
+        주문_항목.setMenu(메뉴);
+        주문_항목.setPrice(메뉴.getPrice());
+        주문_항목.setQuantity(1L);
+
+        Order 주문 = new Order();
+        주문.setId(UUID.randomUUID());
+        주문.setType(OrderType.EAT_IN);
+        주문.setStatus(OrderStatus.WAITING);
+        주문.setOrderDateTime(LocalDateTime.of(2999, 1, 1, 0, 0).plusMinutes(순번));
+        주문.setOrderTable(주문_테이블);
+        주문.setOrderLineItems(new ArrayList<>(Collections.singletonList(주문_항목)));
+        주문.setTotalPrice(메뉴.getPrice());
+        entityManager.persist(주문);
+    }
+}
@@ -0,0 +1,68 @@
+package kitchenpos.ui;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.infra.StatementCountInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCountFilterTest {
+    private SimpleMeterRegistry meterRegistry;
+    private StatementCountFilter statementCountFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statementCountFilter = new StatementCountFilter(meterRegistry);
+    }
+
+    @DisplayName("쿼리 수 지표 - 요청마다 실행한 쿼리 수를 요청 경로 패턴별로 기록한다.")
+    @Test
+    void doFilter() throws Exception {
+        //given
+        StatementCountInspector 쿼리_검사기 = new StatementCountInspector();
+        쿼리_검사기.inspect("select 1");
+        MockHttpServletRequest 요청 = new MockHttpServletRequest("PUT", "/api/orders/1/accept");
+
+        //when
+        statementCountFilter.doFilter(요청, new MockHttpServletResponse(), (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orders/{orderId}/accept");
+            쿼리_검사기.inspect("select * from orders where id = ?");
+            쿼리_검사기.inspect("update orders set status = ? where id = ?");
+        });
+
+        //then
+        DistributionSummary 쿼리_수 = meterRegistry.get("kitchenpos.http.server.statements")
+            .tag("method", "PUT")
+            .tag("uri", "/api/orders/{orderId}/accept")
+            .summary();
+        assertThat(쿼리_수.count()).isEqualTo(1L);
+        assertThat(쿼리_수.totalAmount()).isEqualTo(2.0);
+    }
+
+    @DisplayName("쿼리 수 지표 - 같은 요청 경로 패턴의 요청은 하나의 지표에 모아 기록한다.")
+    @Test
+    void doFilterWithSameRoute() throws Exception {
+        //given
+        StatementCountInspector 쿼리_검사기 = new StatementCountInspector();
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest 요청 = new MockHttpServletRequest("PUT", "/api/orders/" + i + "/accept");
+            statementCountFilter.doFilter(요청, new MockHttpServletResponse(), (request, response) -> {
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orders/{orderId}/accept");
+                쿼리_검사기.inspect("select * from orders where id = ?");
+            });
+        }
+
+        //then
+        assertThat(meterRegistry.find("kitchenpos.http.server.statements").summaries()).hasSize(1);
+        assertThat(meterRegistry.get("kitchenpos.http.server.statements").summary().count()).isEqualTo(3L);
+    }
+}
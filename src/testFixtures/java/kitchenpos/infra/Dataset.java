@@ -0,0 +1,47 @@
+package kitchenpos.infra;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+public class Dataset {
+    private final List<UUID> menuGroupIds;
+    private final List<UUID> productIds;
+    private final List<UUID> menuIds;
+    private final List<UUID> orderTableIds;
+    private final int orders;
+
+    public Dataset(
+        final List<UUID> menuGroupIds,
+        final List<UUID> productIds,
+        final List<UUID> menuIds,
+        final List<UUID> orderTableIds,
+        final int orders
+    ) {
+        this.menuGroupIds = Collections.unmodifiableList(menuGroupIds);
+        this.productIds = Collections.unmodifiableList(productIds);
+        this.menuIds = Collections.unmodifiableList(menuIds);
+        this.orderTableIds = Collections.unmodifiableList(orderTableIds);
+        this.orders = orders;
+    }
+
+    public List<UUID> getMenuGroupIds() {
+        return menuGroupIds;
+    }
+
+    public List<UUID> getProductIds() {
+        return productIds;
+    }
+
+    public List<UUID> getMenuIds() {
+        return menuIds;
+    }
+
+    public List<UUID> getOrderTableIds() {
+        return orderTableIds;
+    }
+
+    public int getOrders() {
+        return orders;
+    }
+}
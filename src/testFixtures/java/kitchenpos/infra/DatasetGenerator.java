@@ -0,0 +1,319 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.DeliveryRequestStatus;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+public class DatasetGenerator {
+    private static final int BATCH_SIZE = 1_000;
+    private static final long SEQUENCE_GAP = 100L;
+    private static final double DISPLAYED_MENU_RATIO = 0.9;
+    private static final int MAX_QUANTITY = 3;
+    private static final int MAX_NUMBER_OF_GUESTS = 6;
+    private static final List<OrderStatus> DELIVERY_STATUSES = Arrays.asList(
+        OrderStatus.WAITING,
+        OrderStatus.ACCEPTED,
+        OrderStatus.SERVED,
+        OrderStatus.DELIVERING,
+        OrderStatus.DELIVERED,
+        OrderStatus.COMPLETED
+    );
+    private static final List<OrderStatus> STATUSES = Arrays.asList(
+        OrderStatus.WAITING,
+        OrderStatus.ACCEPTED,
+        OrderStatus.SERVED,
+        OrderStatus.COMPLETED
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatasetGenerator(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Dataset generate(final DatasetSize size, final long seed) {
+        if (size.getProducts() < 1 || size.getMenuGroups() < 1 || size.getMenus() < 1
+            || size.getMaxProductsPerMenu() < 1 || size.getMaxOrderLineItems() < 1
+            || size.getOrderTables() < 0 || size.getOrders() < 0 || size.getDays() < 1
+            || size.getActiveOrderRatio() < 0 || size.getActiveOrderRatio() > 1) {
+            throw new IllegalArgumentException();
+        }
+        final SplittableRandom random = new SplittableRandom(seed);
+        final List<UUID> menuGroupIds = insertMenuGroups(size, random);
+        final List<UUID> productIds = new ArrayList<>();
+        final long[] productPrices = insertProducts(size, random, productIds);
+        final List<UUID> menuIds = new ArrayList<>();
+        final List<Long> menuPrices = new ArrayList<>();
+        insertMenus(size, random, menuGroupIds, productIds, productPrices, menuIds, menuPrices);
+        final List<UUID> orderTableIds = insertOrderTables(size, random);
+        insertOrders(size, random, menuIds, menuPrices, orderTableIds);
+        return new Dataset(menuGroupIds, productIds, menuIds, orderTableIds, size.getOrders());
+    }
+
+    private List<UUID> insertMenuGroups(final DatasetSize size, final SplittableRandom random) {
+        final List<UUID> menuGroupIds = new ArrayList<>();
+        final BatchInsert menuGroups = new BatchInsert(
+            "menu_group (id, name)",
+            Types.VARBINARY, Types.VARCHAR
+        );
+        for (int i = 0; i < size.getMenuGroups(); i++) {
+            final UUID menuGroupId = randomId(random);
+            menuGroupIds.add(menuGroupId);
+            menuGroups.add(bytes(menuGroupId), "메뉴 그룹 " + i);
+        }
+        menuGroups.flush();
+        return menuGroupIds;
+    }
+
+    private long[] insertProducts(final DatasetSize size, final SplittableRandom random, final List<UUID> productIds) {
+        final long[] productPrices = new long[size.getProducts()];
+        final BatchInsert products = new BatchInsert(
+            "product (id, name, price)",
+            Types.VARBINARY, Types.VARCHAR, Types.BIGINT
+        );
+        for (int i = 0; i < size.getProducts(); i++) {
+            final UUID productId = randomId(random);
+            productIds.add(productId);
+            productPrices[i] = 1_000L + 500L * random.nextInt(59);
+            products.add(bytes(productId), "상품 " + i, productPrices[i]);
+        }
+        products.flush();
+        return productPrices;
+    }
+
+    private void insertMenus(
+        final DatasetSize size,
+        final SplittableRandom random,
+        final List<UUID> menuGroupIds,
+        final List<UUID> productIds,
+        final long[] productPrices,
+        final List<UUID> menuIds,
+        final List<Long> menuPrices
+    ) {
+        final int maxProductsPerMenu = Math.min(size.getMaxProductsPerMenu(), productIds.size());
+        long seq = reserveSequence("menu_product", (long) size.getMenus() * maxProductsPerMenu);
+        final BatchInsert menus = new BatchInsert(
+            "menu (id, name, price, displayed, menu_group_id)",
+            Types.VARBINARY, Types.VARCHAR, Types.BIGINT, Types.BOOLEAN, Types.VARBINARY
+        );
+        final BatchInsert menuProducts = new BatchInsert(
+            "menu_product (seq, quantity, product_id, menu_id)",
+            Types.BIGINT, Types.BIGINT, Types.VARBINARY, Types.VARBINARY
+        );
+        for (int i = 0; i < size.getMenus(); i++) {
+            final UUID menuId = randomId(random);
+            final Set<Integer> productIndexes = new LinkedHashSet<>();
+            final int productCount = 1 + skewed(random, maxProductsPerMenu);
+            while (productIndexes.size() < productCount) {
+                productIndexes.add(skewed(random, productIds.size()));
+            }
+            long sum = 0L;
+            for (final int productIndex : productIndexes) {
+                final long quantity = 1L + random.nextInt(MAX_QUANTITY);
+                sum += productPrices[productIndex] * quantity;
+                menuProducts.add(seq++, quantity, bytes(productIds.get(productIndex)), bytes(menuId));
+            }
+            final long price = Math.max(100L, (long) (sum * (0.8 + random.nextDouble() * 0.2)) / 100L * 100L);
+            final boolean displayed = random.nextDouble() < DISPLAYED_MENU_RATIO;
+            menus.add(bytes(menuId), "메뉴 " + i, price, displayed, bytes(menuGroupIds.get(random.nextInt(menuGroupIds.size()))));
+            if (displayed) {
+                menuIds.add(menuId);
+                menuPrices.add(price);
+            }
+            if (menus.isFull()) {
+                menus.flush();
+                menuProducts.flush();
+            }
+        }
+        menus.flush();
+        menuProducts.flush();
+    }
+
+    private List<UUID> insertOrderTables(final DatasetSize size, final SplittableRandom random) {
+        final List<UUID> orderTableIds = new ArrayList<>();
+        final BatchInsert orderTables = new BatchInsert(
+            "order_table (id, empty, name, number_of_guests)",
+            Types.VARBINARY, Types.BOOLEAN, Types.VARCHAR, Types.INTEGER
+        );
+        for (int i = 0; i < size.getOrderTables(); i++) {
+            final UUID orderTableId = randomId(random);
+            orderTableIds.add(orderTableId);
+            orderTables.add(bytes(orderTableId), true, (i + 1) + "번", 0);
+        }
+        orderTables.flush();
+        return orderTableIds;
+    }
+
+    private void insertOrders(
+        final DatasetSize size,
+        final SplittableRandom random,
+        final List<UUID> menuIds,
+        final List<Long> menuPrices,
+        final List<UUID> orderTableIds
+    ) {
+        if (size.getOrders() > 0 && menuIds.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        long seq = reserveSequence("order_line_item", (long) size.getOrders() * size.getMaxOrderLineItems());
+        final int[] activeOrderCounts = new int[orderTableIds.size()];
+        final long from = size.getUntil().minusDays(size.getDays()).toInstant(ZoneOffset.UTC).toEpochMilli();
+        final long interval = Math.max(1L, (long) size.getDays() * 86_400_000L / Math.max(1, size.getOrders()));
+        final int firstActiveOrder = size.getOrders() - (int) (size.getOrders() * size.getActiveOrderRatio());
+        final BatchInsert orders = new BatchInsert(
+            "orders (id, delivery_address, order_date_time, status, type, order_table_id, total_price, version)",
+            Types.VARBINARY, Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR, Types.VARBINARY, Types.BIGINT,
+            Types.BIGINT
+        );
+        final BatchInsert orderLineItems = new BatchInsert(
+            "order_line_item (seq, quantity, price, menu_id, order_id)",
+            Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARBINARY, Types.VARBINARY
+        );
+        final BatchInsert deliveryRequests = new BatchInsert(
+            "delivery_request (id, order_id, amount, delivery_address, status, attempts, next_attempt_at, created_at)",
+            Types.VARBINARY, Types.VARBINARY, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER,
+            Types.TIMESTAMP, Types.TIMESTAMP
+        );
+        for (int i = 0; i < size.getOrders(); i++) {
+            final long orderedAt = from + i * interval + random.nextLong(interval);
+            final UUID orderId = TimeOrderedIdGenerator.of(orderedAt, i, random.nextLong());
+            final Timestamp orderDateTime = Timestamp.valueOf(
+                LocalDateTime.ofEpochSecond(orderedAt / 1_000L, (int) (orderedAt % 1_000L) * 1_000_000, ZoneOffset.UTC)
+            );
+            final OrderType type = type(random, orderTableIds.isEmpty());
+            final List<OrderStatus> statuses = type == OrderType.DELIVERY ? DELIVERY_STATUSES : STATUSES;
+            final int step = i < firstActiveOrder ? statuses.size() - 1 : random.nextInt(statuses.size() - 1);
+            final OrderStatus status = statuses.get(step);
+            final String deliveryAddress = type == OrderType.DELIVERY ? "서울시 송파구 올림픽로 " + random.nextInt(1_000) : null;
+            byte[] orderTableId = null;
+            if (type == OrderType.EAT_IN) {
+                final int orderTableIndex = random.nextInt(orderTableIds.size());
+                orderTableId = bytes(orderTableIds.get(orderTableIndex));
+                if (status != OrderStatus.COMPLETED) {
+                    activeOrderCounts[orderTableIndex]++;
+                }
+            }
+            long amount = 0L;
+            final int orderLineItemCount = 1 + skewed(random, size.getMaxOrderLineItems());
+            for (int j = 0; j < orderLineItemCount; j++) {
+                final int menuIndex = skewed(random, menuIds.size());
+                final long quantity = 1L + random.nextInt(MAX_QUANTITY);
+                final long price = menuPrices.get(menuIndex);
+                amount += price * quantity;
+                orderLineItems.add(seq++, quantity, price, bytes(menuIds.get(menuIndex)), bytes(orderId));
+            }
+            orders.add(
+                bytes(orderId), deliveryAddress, orderDateTime, status.name(), type.name(), orderTableId, amount, (long) step
+            );
+            if (type == OrderType.DELIVERY && status != OrderStatus.WAITING) {
+                deliveryRequests.add(
+                    bytes(randomId(random)), bytes(orderId), amount, deliveryAddress,
+                    DeliveryRequestStatus.SENT.name(), 1, orderDateTime, orderDateTime
+                );
+            }
+            if (orders.isFull()) {
+                orders.flush();
+                orderLineItems.flush();
+                deliveryRequests.flush();
+            }
+        }
+        orders.flush();
+        orderLineItems.flush();
+        deliveryRequests.flush();
+        seatOrderTables(random, orderTableIds, activeOrderCounts);
+    }
+
+    private void seatOrderTables(
+        final SplittableRandom random,
+        final List<UUID> orderTableIds,
+        final int[] activeOrderCounts
+    ) {
+        final List<Object[]> orderTables = new ArrayList<>();
+        for (int i = 0; i < orderTableIds.size(); i++) {
+            if (activeOrderCounts[i] > 0) {
+                orderTables.add(new Object[]{
+                    1 + random.nextInt(MAX_NUMBER_OF_GUESTS), activeOrderCounts[i], bytes(orderTableIds.get(i))
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(
+            "update order_table set empty = false, number_of_guests = ?, active_order_count = ? where id = ?",
+            orderTables,
+            new int[]{Types.INTEGER, Types.INTEGER, Types.VARBINARY}
+        );
+    }
+
+    private long reserveSequence(final String sequenceName, final long count) {
+        final Long nextVal = jdbcTemplate.queryForObject(
+            "select next_val from id_generator where sequence_name = ?",
+            Long.class,
+            sequenceName
+        );
+        final long first = (Objects.isNull(nextVal) ? 0L : nextVal) + SEQUENCE_GAP;
+        jdbcTemplate.update(
+            "update id_generator set next_val = ? where sequence_name = ?",
+            first + count + SEQUENCE_GAP,
+            sequenceName
+        );
+        return first;
+    }
+
+    private static OrderType type(final SplittableRandom random, final boolean withoutOrderTable) {
+        final int value = random.nextInt(10);
+        if (value < 3) {
+            return OrderType.DELIVERY;
+        }
+        if (value < 6 || withoutOrderTable) {
+            return OrderType.TAKEOUT;
+        }
+        return OrderType.EAT_IN;
+    }
+
+    private static int skewed(final SplittableRandom random, final int bound) {
+        final double value = random.nextDouble();
+        return (int) (bound * value * value);
+    }
+
+    private static UUID randomId(final SplittableRandom random) {
+        return new UUID(random.nextLong() & ~0xF000L | 0x4000L, random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L);
+    }
+
+    private static byte[] bytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+
+    private class BatchInsert {
+        private final String sql;
+        private final int[] types;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        BatchInsert(final String tableAndColumns, final int... types) {
+            this.sql = "insert into " + tableAndColumns
+                + " values (" + String.join(", ", Collections.nCopies(types.length, "?")) + ")";
+            this.types = types;
+        }
+
+        void add(final Object... row) {
+            rows.add(row);
+        }
+
+        boolean isFull() {
+            return rows.size() >= BATCH_SIZE;
+        }
+
+        void flush() {
+            jdbcTemplate.batchUpdate(sql, rows, types);
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package kitchenpos.infra;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public class DatasetSize {
+    private int menuGroups = 10;
+    private int products = 200;
+    private int menus = 1_000;
+    private int maxProductsPerMenu = 5;
+    private int orderTables = 50;
+    private int orders = 100_000;
+    private int maxOrderLineItems = 4;
+    private double activeOrderRatio = 0.001;
+    private int days = 90;
+    private LocalDateTime until = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+
+    public int getMenuGroups() {
+        return menuGroups;
+    }
+
+    public void setMenuGroups(final int menuGroups) {
+        this.menuGroups = menuGroups;
+    }
+
+    public int getProducts() {
+        return products;
+    }
+
+    public void setProducts(final int products) {
+        this.products = products;
+    }
+
+    public int getMenus() {
+        return menus;
+    }
+
+    public void setMenus(final int menus) {
+        this.menus = menus;
+    }
+
+    public int getMaxProductsPerMenu() {
+        return maxProductsPerMenu;
+    }
+
+    public void setMaxProductsPerMenu(final int maxProductsPerMenu) {
+        this.maxProductsPerMenu = maxProductsPerMenu;
+    }
+
+    public int getOrderTables() {
+        return orderTables;
+    }
+
+    public void setOrderTables(final int orderTables) {
+        this.orderTables = orderTables;
+    }
+
+    public int getOrders() {
+        return orders;
+    }
+
+    public void setOrders(final int orders) {
+        this.orders = orders;
+    }
+
+    public int getMaxOrderLineItems() {
+        return maxOrderLineItems;
+    }
+
+    public void setMaxOrderLineItems(final int maxOrderLineItems) {
+        this.maxOrderLineItems = maxOrderLineItems;
+    }
+
+    public double getActiveOrderRatio() {
+        return activeOrderRatio;
+    }
+
+    public void setActiveOrderRatio(final double activeOrderRatio) {
+        this.activeOrderRatio = activeOrderRatio;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public void setDays(final int days) {
+        this.days = days;
+    }
+
+    public LocalDateTime getUntil() {
+        return until;
+    }
+
+    public void setUntil(final LocalDateTime until) {
+        this.until = until;
+    }
+}